@@ -0,0 +1,193 @@
+package com.sunic.community.aggregate.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-through cache of domain objects shared by all service replicas, active when {@code community.cache.enabled}.
+ * Each node keeps a short-lived in-process L1 in front of a Redis L2 holding JSON.
+ * <p>
+ * A write evicts the entry from both levels after commit and publishes the key on {@link #INVALIDATION_CHANNEL},
+ * so every node drops its L1 copy. If Redis is unreachable, reads fall back to the loader and the L1 TTL
+ * bounds how long other nodes may serve a stale entry.
+ * <p>
+ * A miss racing an eviction can still put the old value back: the loader may read a replica that has not yet
+ * applied the write, or another node may evict between this node's load and its L2 write. Each eviction is
+ * therefore repeated after {@code community.cache.redelete-delay-ms}, which must exceed the longest replica lag
+ * tolerated by the read routing, so such an entry lives at most that long. The repeats run on the cache's own
+ * scheduler threads, so a burst of writes cannot delay the application's scheduled jobs.
+ * <p>
+ * A load is not cached if its key was invalidated while it ran. Invalidations are versioned per stripe of
+ * keys, so evictions of unrelated keys rarely skip a fill; two keys sharing a stripe only cost a reload.
+ */
+@Slf4j
+@Component
+public class TwoLevelCache {
+
+	public static final String INVALIDATION_CHANNEL = "community:cache:invalidate";
+
+	private static final int VERSION_STRIPES = 4096;
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private final Duration remoteTtl;
+	private final Duration redeleteDelay;
+	private final ThreadPoolTaskScheduler redeleteScheduler;
+	private final Cache<String, Object> local;
+	private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+	public TwoLevelCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+		@Value("${community.cache.enabled:false}") boolean enabled,
+		@Value("${community.cache.local.max-size:10000}") long localMaxSize,
+		@Value("${community.cache.local.ttl-ms:30000}") long localTtlMs,
+		@Value("${community.cache.remote.ttl-ms:600000}") long remoteTtlMs,
+		@Value("${community.cache.redelete-delay-ms:7000}") long redeleteDelayMs,
+		@Value("${community.cache.redelete-threads:2}") int redeleteThreads) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.enabled = enabled;
+		this.remoteTtl = Duration.ofMillis(remoteTtlMs);
+		this.redeleteDelay = Duration.ofMillis(redeleteDelayMs);
+		this.local = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfterWrite(Duration.ofMillis(localTtlMs))
+			.build();
+		this.redeleteScheduler = new ThreadPoolTaskScheduler();
+		redeleteScheduler.setPoolSize(redeleteThreads);
+		redeleteScheduler.setThreadNamePrefix("cache-redelete-");
+		redeleteScheduler.initialize();
+	}
+
+	/**
+	 * Returns the cached value, loading and caching it on a miss.
+	 * The value is shared with other callers, so callers must copy it before modifying it.
+	 */
+	public <T> T get(String name, Object key, Class<T> type, Supplier<T> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+		String cacheKey = name + ":" + key;
+		Object cached = local.getIfPresent(cacheKey);
+		if (cached != null) {
+			return type.cast(cached);
+		}
+
+		int stripe = stripe(cacheKey);
+		long observed = versions.get(stripe);
+		T value = readRemote(cacheKey, type);
+		if (value == null) {
+			value = loader.get();
+			if (versions.get(stripe) == observed) {
+				writeRemote(cacheKey, value);
+			}
+		}
+		if (versions.get(stripe) == observed) {
+			local.put(cacheKey, value);
+		}
+		return value;
+	}
+
+	public void evict(String name, Object key) {
+		if (!enabled) {
+			return;
+		}
+		String cacheKey = name + ":" + key;
+		afterCommit(() -> {
+			invalidate(cacheKey);
+			redeleteScheduler.schedule(() -> invalidate(cacheKey), Instant.now().plus(redeleteDelay));
+		});
+	}
+
+	/**
+	 * Publishes a message for other node-local caches on {@link #INVALIDATION_CHANNEL}, when the cache is enabled.
+	 */
+	public void broadcast(String message) {
+		if (!enabled) {
+			return;
+		}
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+		} catch (DataAccessException e) {
+			log.warn("Failed to publish {}", message, e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		redeleteScheduler.shutdown();
+	}
+
+	/**
+	 * Drops the L1 entry named by an invalidation message from any node, including this one.
+	 */
+	public void onInvalidation(String cacheKey) {
+		versions.incrementAndGet(stripe(cacheKey));
+		local.invalidate(cacheKey);
+	}
+
+	private void invalidate(String cacheKey) {
+		versions.incrementAndGet(stripe(cacheKey));
+		local.invalidate(cacheKey);
+		try {
+			redisTemplate.delete(cacheKey);
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, cacheKey);
+		} catch (DataAccessException e) {
+			log.warn("Failed to invalidate {} in Redis", cacheKey, e);
+		}
+	}
+
+	static int stripe(String cacheKey) {
+		int hash = cacheKey.hashCode();
+		return Math.floorMod(hash ^ (hash >>> 16), VERSION_STRIPES);
+	}
+
+	private <T> T readRemote(String cacheKey, Class<T> type) {
+		try {
+			String json = redisTemplate.opsForValue().get(cacheKey);
+			return json != null ? objectMapper.readValue(json, type) : null;
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.debug("Failed to read {} from Redis", cacheKey, e);
+			return null;
+		}
+	}
+
+	private void writeRemote(String cacheKey, Object value) {
+		try {
+			redisTemplate.opsForValue().set(cacheKey, objectMapper.writeValueAsString(value), remoteTtl);
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.debug("Failed to write {} to Redis", cacheKey, e);
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
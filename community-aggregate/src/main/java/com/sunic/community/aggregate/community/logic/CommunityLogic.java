@@ -1,14 +1,22 @@
 package com.sunic.community.aggregate.community.logic;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sunic.community.aggregate.community.store.CommunityStore;
 import com.sunic.community.aggregate.community.store.MemberStore;
+import com.sunic.community.aggregate.outbox.OutboxStore;
 import com.sunic.community.aggregate.proxy.UserProxy;
+import com.sunic.community.spec.common.BatchItemRdo;
+import com.sunic.community.spec.common.event.DomainEventType;
+import com.sunic.community.spec.common.exception.InvalidRequestException;
 import com.sunic.community.spec.community.entity.Community;
 import com.sunic.community.spec.community.entity.Member;
 import com.sunic.community.spec.community.exception.MembershipException;
@@ -18,9 +26,11 @@ import com.sunic.community.spec.community.facade.sdo.CommunityUdo;
 import com.sunic.community.spec.community.facade.sdo.MemberJoinCdo;
 import com.sunic.community.spec.community.facade.sdo.MemberLeaveCdo;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Component
+@Timed(value = "community.logic", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommunityLogic {
@@ -28,20 +38,24 @@ public class CommunityLogic {
 	private final CommunityStore communityStore;
 	private final MemberStore memberStore;
 	private final UserProxy userProxy;
+	private final OutboxStore outboxStore;
+
+	@Value("${community.batch.max-ids:200}")
+	private int maxBatchSize;
 
 	@Transactional
 	public CommunityRdo registerCommunity(CommunityCdo communityCdo) {
 		userProxy.validateAdminUser(communityCdo.getRegistrant());
 		Community community = communityStore.save(Community.create(communityCdo));
+		outboxStore.append(DomainEventType.COMMUNITY_REGISTERED, community.getId(), withoutSecret(community));
 		return community.toRdo();
 	}
 
 	@Transactional
 	public CommunityRdo modifyCommunity(CommunityUdo modifySdo) {
 		userProxy.validateAdminUser(modifySdo.getModifier());
-		Community community = communityStore.findById(modifySdo.getId());
-		community.modify(modifySdo);
-		Community updated = communityStore.update(community);
+		Community updated = communityStore.update(modifySdo.getId(), community -> community.modify(modifySdo));
+		outboxStore.append(DomainEventType.COMMUNITY_MODIFIED, updated.getId(), withoutSecret(updated));
 		return updated.toRdo();
 	}
 
@@ -49,6 +63,8 @@ public class CommunityLogic {
 	public void deleteCommunity(Integer communityId, Integer userId) {
 		userProxy.validateAdminUser(userId);
 		communityStore.deleteById(communityId);
+		outboxStore.append(DomainEventType.COMMUNITY_DELETED, communityId,
+			Map.of("communityId", communityId, "deletedBy", userId));
 	}
 
 	public CommunityRdo getCommunity(Integer communityId) {
@@ -56,8 +72,31 @@ public class CommunityLogic {
 		return community.toRdo();
 	}
 
+	/**
+	 * Returns one entry per requested id, in request order, loading all of them in a single query.
+	 */
+	public List<BatchItemRdo<CommunityRdo>> getCommunities(List<Integer> communityIds) {
+		validateBatchSize(communityIds);
+		Map<Integer, Community> communities = communityStore.findAllByIds(new LinkedHashSet<>(communityIds));
+		return communityIds.stream()
+			.map(id -> BatchItemRdo.of(id,
+				communities.containsKey(id) ? communities.get(id).toRdo() : null))
+			.collect(Collectors.toList());
+	}
+
 	public List<CommunityRdo> getAllCommunities() {
-		return communityStore.findAll().stream().map(Community::toRdo).collect(Collectors.toList());
+		return communityStore.findAll().stream()
+			.map(Community::toRdo)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns all communities with only the requested fields loaded; the rest are left null.
+	 */
+	public List<CommunityRdo> getAllCommunities(Set<String> fields) {
+		return communityStore.findAll(fields).stream()
+			.map(Community::toRdo)
+			.collect(Collectors.toList());
 	}
 
 	@Transactional
@@ -75,8 +114,9 @@ public class CommunityLogic {
 		Member member = Member.create(joinSdo);
 		memberStore.save(member);
 
-		community.addMember();
-		communityStore.update(community);
+		communityStore.update(community.getId(), Community::addMember);
+		outboxStore.append(DomainEventType.MEMBER_JOINED, community.getId(),
+			Map.of("communityId", community.getId(), "userId", joinSdo.getUserId()));
 	}
 
 	@Transactional
@@ -87,12 +127,22 @@ public class CommunityLogic {
 
 		memberStore.deleteByUserIdAndCommunityId(leaveSdo.getUserId(), leaveSdo.getCommunityId());
 
-		Community community = communityStore.findById(leaveSdo.getCommunityId());
-		community.removeMember();
-		communityStore.update(community);
+		communityStore.update(leaveSdo.getCommunityId(), Community::removeMember);
+		outboxStore.append(DomainEventType.MEMBER_LEFT, leaveSdo.getCommunityId(),
+			Map.of("communityId", leaveSdo.getCommunityId(), "userId", leaveSdo.getUserId()));
 	}
 
 	public boolean checkMembership(Integer communityId, Integer userId) {
 		return memberStore.existsByUserIdAndCommunityId(userId, communityId);
 	}
+
+	private void validateBatchSize(List<Integer> ids) {
+		if (ids.isEmpty() || ids.size() > maxBatchSize) {
+			throw new InvalidRequestException("Between 1 and " + maxBatchSize + " ids are required");
+		}
+	}
+
+	private static CommunityRdo withoutSecret(Community community) {
+		return community.toBuilder().secretNumber(null).build().toRdo();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.sunic.community.aggregate.community.store;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sunic.community.aggregate.community.store.repository.CommunityRepository;
+import com.sunic.community.aggregate.community.store.repository.MemberRepository;
+import com.sunic.community.aggregate.post.store.repository.CommentRepository;
+import com.sunic.community.aggregate.post.store.repository.PostReactionCountRepository;
+import com.sunic.community.aggregate.post.store.repository.PostReactionRepository;
+import com.sunic.community.aggregate.post.store.repository.PostRepository;
+import com.sunic.community.aggregate.post.store.repository.PostStatsRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Removes the rows of communities that were marked deleted by {@link CommunityStore#deleteById}.
+ * Every chunk is a bulk DELETE in its own transaction, so a large community never holds long locks
+ * or loads its members into memory.
+ * <p>
+ * Replicas coordinate through a lease on the community row: a community is purged only by the instance whose
+ * conditional UPDATE claimed it, and the lease is renewed after every chunk. A lease left by a crashed instance
+ * expires after {@code community.purge.lease-ms} and the community is picked up again.
+ */
+@Slf4j
+@Component
+public class CommunityPurger {
+
+	private final CommunityRepository communityRepository;
+	private final MemberRepository memberRepository;
+	private final PostRepository postRepository;
+	private final CommentRepository commentRepository;
+	private final PostStatsRepository postStatsRepository;
+	private final PostReactionRepository postReactionRepository;
+	private final PostReactionCountRepository postReactionCountRepository;
+	private final MeterRegistry meterRegistry;
+	private final AtomicInteger pendingCommunities;
+
+	@Value("${community.purge.chunk-size:1000}")
+	private int chunkSize;
+
+	@Value("${community.purge.lease-ms:60000}")
+	private long leaseMs;
+
+	public CommunityPurger(CommunityRepository communityRepository, MemberRepository memberRepository,
+		PostRepository postRepository, CommentRepository commentRepository, PostStatsRepository postStatsRepository,
+		PostReactionRepository postReactionRepository, PostReactionCountRepository postReactionCountRepository,
+		MeterRegistry meterRegistry) {
+		this.communityRepository = communityRepository;
+		this.memberRepository = memberRepository;
+		this.postRepository = postRepository;
+		this.commentRepository = commentRepository;
+		this.postStatsRepository = postStatsRepository;
+		this.postReactionRepository = postReactionRepository;
+		this.postReactionCountRepository = postReactionCountRepository;
+		this.meterRegistry = meterRegistry;
+		this.pendingCommunities = meterRegistry.gauge("community.purge.pending", new AtomicInteger());
+	}
+
+	@Scheduled(fixedDelayString = "${community.purge.interval-ms:10000}")
+	public void purgeDeletedCommunities() {
+		List<Integer> communityIds = communityRepository.findDeletedIds();
+		pendingCommunities.set(communityIds.size());
+
+		for (Integer communityId : communityIds) {
+			try {
+				long now = System.currentTimeMillis();
+				if (communityRepository.claimPurge(communityId, now, now + leaseMs) == 0) {
+					log.debug("Community {} is being purged by another instance", communityId);
+					continue;
+				}
+				purge(communityId);
+				pendingCommunities.decrementAndGet();
+			} catch (DataAccessException e) {
+				log.warn("Failed to purge community {}, will retry on next run", communityId, e);
+			}
+		}
+	}
+
+	private void purge(Integer communityId) {
+		long comments = deleteInChunks(communityId, "comment",
+			() -> commentRepository.deleteChunkByCommunityId(communityId, chunkSize));
+		deleteInChunks(communityId, "post_stats",
+			() -> postStatsRepository.deleteChunkByCommunityId(communityId, chunkSize));
+		deleteInChunks(communityId, "post_reaction",
+			() -> postReactionRepository.deleteChunkByCommunityId(communityId, chunkSize));
+		deleteInChunks(communityId, "post_reaction_count",
+			() -> postReactionCountRepository.deleteChunkByCommunityId(communityId, chunkSize));
+		long posts = deleteInChunks(communityId, "post",
+			() -> postRepository.deleteChunkByCommunityId(communityId, chunkSize));
+		long members = deleteInChunks(communityId, "member",
+			() -> memberRepository.deleteChunkByCommunityId(communityId, chunkSize));
+		communityRepository.purgeById(communityId);
+
+		meterRegistry.counter("community.purge.completed").increment();
+		log.info("Purged community {}: {} members, {} posts, {} comments", communityId, members, posts, comments);
+	}
+
+	private long deleteInChunks(Integer communityId, String table, IntSupplier deleteChunk) {
+		Counter rows = meterRegistry.counter("community.purge.rows", "table", table);
+		long total = 0;
+		int deleted;
+		do {
+			deleted = deleteChunk.getAsInt();
+			rows.increment(deleted);
+			total += deleted;
+			communityRepository.renewPurge(communityId, System.currentTimeMillis() + leaseMs);
+		} while (deleted >= chunkSize);
+		return total;
+	}
+}
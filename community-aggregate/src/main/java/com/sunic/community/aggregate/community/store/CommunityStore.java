@@ -1,22 +1,57 @@
 package com.sunic.community.aggregate.community.store;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sunic.community.aggregate.cache.TwoLevelCache;
 import com.sunic.community.aggregate.community.store.jpo.CommunityJpo;
+import com.sunic.community.aggregate.community.store.jpo.QCommunityJpo;
 import com.sunic.community.aggregate.community.store.repository.CommunityRepository;
+import com.sunic.community.aggregate.config.querydsl.FieldProjection;
+import com.sunic.community.aggregate.post.store.RecentPostCache;
 import com.sunic.community.spec.community.entity.Community;
 import com.sunic.community.spec.community.exception.CommunityNotFoundException;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Component
+@Timed(value = "community.store", histogram = true)
 @RequiredArgsConstructor
 public class CommunityStore {
 
+	public static final String CACHE_NAME = "community";
+
+	private static final QCommunityJpo COMMUNITY = QCommunityJpo.communityJpo;
+	private static final Map<String, Expression<?>> COMMUNITY_COLUMNS = Map.ofEntries(
+		Map.entry("type", COMMUNITY.type),
+		Map.entry("thumbnail", COMMUNITY.thumbnail),
+		Map.entry("name", COMMUNITY.name),
+		Map.entry("description", COMMUNITY.description),
+		Map.entry("managerId", COMMUNITY.managerId),
+		Map.entry("managerName", COMMUNITY.managerName),
+		Map.entry("managerEmail", COMMUNITY.managerEmail),
+		Map.entry("memberCount", COMMUNITY.memberCount),
+		Map.entry("registeredTime", COMMUNITY.registeredTime),
+		Map.entry("registrant", COMMUNITY.registrant),
+		Map.entry("modifiedTime", COMMUNITY.modifiedTime),
+		Map.entry("modifier", COMMUNITY.modifier),
+		Map.entry("allowSelfJoin", COMMUNITY.allowSelfJoin),
+		Map.entry("secretNumber", COMMUNITY.secretNumber));
+
 	private final CommunityRepository communityRepository;
+	private final RecentPostCache recentPostCache;
+	private final TwoLevelCache twoLevelCache;
+	private final JPAQueryFactory queryFactory;
 
 	public Community save(Community community) {
 		CommunityJpo communityJpo = communityRepository.save(CommunityJpo.fromDomain(community));
@@ -24,9 +59,15 @@ public class CommunityStore {
 	}
 
 	public Community findById(Integer id) {
-		CommunityJpo communityJpo = communityRepository.findById(id)
-			.orElseThrow(() -> new CommunityNotFoundException("Community not found with id: " + id));
-		return communityJpo.toDomain();
+		return twoLevelCache.get(CACHE_NAME, id, Community.class, () -> load(id)).toBuilder().build();
+	}
+
+	/**
+	 * Loads the communities in one {@code IN} query, keyed by id. Missing and deleted ids are absent.
+	 */
+	public Map<Integer, Community> findAllByIds(Collection<Integer> ids) {
+		return communityRepository.findAllById(ids).stream()
+			.collect(Collectors.toMap(CommunityJpo::getId, CommunityJpo::toDomain));
 	}
 
 	public List<Community> findAll() {
@@ -34,18 +75,63 @@ public class CommunityStore {
 			.map(CommunityJpo::toDomain).collect(Collectors.toList());
 	}
 
-	public Community update(Community community) {
-		CommunityJpo communityJpo = communityRepository.findById(community.getId())
-			.orElseThrow(() -> new CommunityNotFoundException("Community not found with id: " + community.getId()));
-		communityJpo.update(community);
+	/**
+	 * Returns all communities, selecting only the columns of the requested fields.
+	 */
+	public List<Community> findAll(Set<String> fields) {
+		return queryFactory.select(FieldProjection.columns(COMMUNITY.id, COMMUNITY_COLUMNS, fields))
+			.from(COMMUNITY)
+			.fetch().stream()
+			.map(CommunityStore::toCommunity)
+			.collect(Collectors.toList());
+	}
 
-		return communityRepository.save(communityJpo).toDomain();
+	/**
+	 * Applies the modification to the managed community loaded once in the current transaction.
+	 * Changes are flushed by dirty checking on commit, so no explicit save is issued.
+	 */
+	public Community update(Integer id, Consumer<Community> modification) {
+		CommunityJpo communityJpo = communityRepository.findById(id)
+			.orElseThrow(() -> new CommunityNotFoundException("Community not found with id: " + id));
+		Community community = communityJpo.toDomain();
+		modification.accept(community);
+		communityJpo.update(community);
+		twoLevelCache.evict(CACHE_NAME, id);
+		return community;
 	}
 
 	public void deleteById(Integer id) {
-		if (!communityRepository.existsById(id)) {
+		if (communityRepository.markDeleted(id, System.currentTimeMillis()) == 0) {
 			throw new CommunityNotFoundException("Community not found with id: " + id);
 		}
-		communityRepository.deleteById(id);
+		recentPostCache.evict(id);
+		twoLevelCache.evict(CACHE_NAME, id);
+	}
+
+	private static Community toCommunity(Tuple row) {
+		Boolean allowSelfJoin = row.get(COMMUNITY.allowSelfJoin);
+		return Community.builder()
+			.id(row.get(COMMUNITY.id))
+			.type(row.get(COMMUNITY.type))
+			.thumbnail(row.get(COMMUNITY.thumbnail))
+			.name(row.get(COMMUNITY.name))
+			.description(row.get(COMMUNITY.description))
+			.managerId(row.get(COMMUNITY.managerId))
+			.managerName(row.get(COMMUNITY.managerName))
+			.managerEmail(row.get(COMMUNITY.managerEmail))
+			.memberCount(row.get(COMMUNITY.memberCount))
+			.registeredTime(row.get(COMMUNITY.registeredTime))
+			.registrant(row.get(COMMUNITY.registrant))
+			.modifiedTime(row.get(COMMUNITY.modifiedTime))
+			.modifier(row.get(COMMUNITY.modifier))
+			.allowSelfJoin(Boolean.TRUE.equals(allowSelfJoin))
+			.secretNumber(row.get(COMMUNITY.secretNumber))
+			.build();
+	}
+
+	private Community load(Integer id) {
+		CommunityJpo communityJpo = communityRepository.findById(id)
+			.orElseThrow(() -> new CommunityNotFoundException("Community not found with id: " + id));
+		return communityJpo.toDomain();
 	}
 }
\ No newline at end of file
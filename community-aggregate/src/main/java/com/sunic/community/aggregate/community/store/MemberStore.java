@@ -1,17 +1,20 @@
 package com.sunic.community.aggregate.community.store;
 
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
-import com.sunic.community.aggregate.community.store.jpo.CommunityJpo;
 import com.sunic.community.aggregate.community.store.jpo.MemberJpo;
 import com.sunic.community.aggregate.community.store.repository.CommunityRepository;
 import com.sunic.community.aggregate.community.store.repository.MemberRepository;
 import com.sunic.community.spec.community.entity.Member;
 import com.sunic.community.spec.community.exception.CommunityNotFoundException;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Component
+@Timed(value = "community.store", histogram = true)
 @RequiredArgsConstructor
 public class MemberStore {
 
@@ -19,12 +22,10 @@ public class MemberStore {
 	private final CommunityRepository communityRepository;
 
 	public Member save(Member member) {
-		CommunityJpo communityJpo = communityRepository.findById(member.getCommunityId())
-			.orElseThrow(
-				() -> new CommunityNotFoundException("Community not found with id: " + member.getCommunityId()));
-
 		MemberJpo jpo = MemberJpo.fromDomain(member);
-		jpo.setCommunity(communityJpo);
+		jpo.setCommunity(communityRepository.lockLiveById(member.getCommunityId())
+			.orElseThrow(() -> new CommunityNotFoundException(
+				"Community not found with id: " + member.getCommunityId())));
 
 		MemberJpo saved = memberRepository.save(jpo);
 		return saved.toDomain();
@@ -34,6 +35,10 @@ public class MemberStore {
 		return memberRepository.existsByCommunityIdAndUserId(communityId, userId);
 	}
 
+	public List<Integer> findCommunityIdsByUserId(Integer userId) {
+		return memberRepository.findCommunityIdsByUserId(userId);
+	}
+
 	public void deleteByUserIdAndCommunityId(Integer userId, Integer communityId) {
 		memberRepository.deleteByCommunityIdAndUserId(communityId, userId);
 	}
@@ -3,7 +3,8 @@ package com.sunic.community.aggregate.community.store.jpo;
 import java.util.List;
 
 import org.hibernate.annotations.ColumnDefault;
-import org.springframework.beans.BeanUtils;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 
 import com.sunic.community.spec.community.entity.Community;
 import com.sunic.community.spec.community.entity.CommunityType;
@@ -25,7 +26,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@DynamicUpdate
 @Table(name = "community")
+@SQLRestriction("deleted_time is null")
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
@@ -54,50 +57,33 @@ public class CommunityJpo {
 	private Integer modifier;
 	private String secretNumber;
 	private boolean allowSelfJoin;
+	private Long deletedTime;
+	private Long purgeLeaseUntil;
 
 	@OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	@JoinColumn(name = "community_id")
 	private List<MemberJpo> members;
 
 	public void update(Community community) {
-		BeanUtils.copyProperties(community, this);
+		this.type = community.getType();
+		this.thumbnail = community.getThumbnail();
+		this.name = community.getName();
+		this.description = community.getDescription();
+		this.managerId = community.getManagerId();
+		this.managerName = community.getManagerName();
+		this.managerEmail = community.getManagerEmail();
+		this.memberCount = community.getMemberCount();
+		this.modifiedTime = community.getModifiedTime();
+		this.modifier = community.getModifier();
+		this.secretNumber = community.getSecretNumber();
+		this.allowSelfJoin = community.isAllowSelfJoin();
 	}
 
 	public Community toDomain() {
-		return Community.builder()
-			.id(id)
-			.type(type)
-			.thumbnail(thumbnail)
-			.name(name)
-			.description(description)
-			.managerId(managerId)
-			.managerName(managerName)
-			.managerEmail(managerEmail)
-			.memberCount(memberCount)
-			.registeredTime(registeredTime)
-			.modifiedTime(modifiedTime)
-			.modifier(modifier)
-			.secretNumber(secretNumber)
-			.allowSelfJoin(allowSelfJoin)
-			.build();
+		return CommunityJpoMapper.INSTANCE.toDomain(this);
 	}
 
 	public static CommunityJpo fromDomain(Community community) {
-		return CommunityJpo.builder()
-			.type(community.getType())
-			.thumbnail(community.getThumbnail())
-			.name(community.getName())
-			.description(community.getDescription())
-			.managerId(community.getManagerId())
-			.managerName(community.getManagerName())
-			.managerEmail(community.getManagerEmail())
-			.memberCount(community.getMemberCount())
-			.registeredTime(community.getRegisteredTime())
-			.registrant(community.getRegistrant())
-			.modifiedTime(community.getModifiedTime())
-			.modifier(community.getModifier())
-			.secretNumber(community.getSecretNumber())
-			.allowSelfJoin(community.isAllowSelfJoin())
-			.build();
+		return CommunityJpoMapper.INSTANCE.fromDomain(community);
 	}
 }
\ No newline at end of file
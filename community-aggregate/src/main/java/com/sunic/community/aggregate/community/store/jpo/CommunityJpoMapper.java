@@ -0,0 +1,29 @@
+package com.sunic.community.aggregate.community.store.jpo;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+import com.sunic.community.spec.common.timing.RequestTimings;
+import com.sunic.community.spec.community.entity.Community;
+import com.sunic.community.spec.community.entity.Member;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface CommunityJpoMapper {
+	CommunityJpoMapper INSTANCE = RequestTimings.timed(CommunityJpoMapper.class,
+		Mappers.getMapper(CommunityJpoMapper.class));
+
+	@Mapping(target = "members", ignore = true)
+	Community toDomain(CommunityJpo jpo);
+
+	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "members", ignore = true)
+	CommunityJpo fromDomain(Community community);
+
+	@Mapping(target = "communityId", source = "community.id")
+	Member toDomain(MemberJpo jpo);
+
+	@Mapping(target = "community", ignore = true)
+	MemberJpo fromDomain(Member member);
+}
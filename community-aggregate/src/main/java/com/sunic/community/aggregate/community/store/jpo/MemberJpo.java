@@ -39,21 +39,10 @@ public class MemberJpo {
 	}
 
 	public static MemberJpo fromDomain(Member member) {
-		return MemberJpo.builder()
-			.id(member.getId())
-			.userId(member.getUserId())
-			.joinedTime(member.getJoinedTime())
-			.registrant(member.getRegistrant())
-			.build();
+		return CommunityJpoMapper.INSTANCE.fromDomain(member);
 	}
 
 	public Member toDomain() {
-		return Member.builder()
-			.id(id)
-			.communityId(community != null ? community.getId() : null)
-			.userId(userId)
-			.joinedTime(joinedTime)
-			.registrant(registrant)
-			.build();
+		return CommunityJpoMapper.INSTANCE.toDomain(this);
 	}
 }
\ No newline at end of file
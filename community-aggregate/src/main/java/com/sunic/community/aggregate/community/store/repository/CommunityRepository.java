@@ -1,10 +1,51 @@
 package com.sunic.community.aggregate.community.store.repository;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.sunic.community.aggregate.community.store.jpo.CommunityJpo;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface CommunityRepository extends JpaRepository<CommunityJpo, Integer> {
-}
\ No newline at end of file
+	/**
+	 * Loads the community if it is not deleted and share-locks its row, so it cannot be marked deleted until the
+	 * calling transaction ends.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("select c from CommunityJpo c where c.id = :id")
+	Optional<CommunityJpo> lockLiveById(@Param("id") Integer id);
+
+	@Modifying
+	@Query("update CommunityJpo c set c.deletedTime = :deletedTime where c.id = :id and c.deletedTime is null")
+	int markDeleted(@Param("id") Integer id, @Param("deletedTime") Long deletedTime);
+
+	@Query(value = "SELECT id FROM community WHERE deleted_time IS NOT NULL", nativeQuery = true)
+	List<Integer> findDeletedIds();
+
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE community SET purge_lease_until = :leaseUntil WHERE id = :id AND deleted_time IS NOT NULL "
+		+ "AND (purge_lease_until IS NULL OR purge_lease_until < :now)", nativeQuery = true)
+	int claimPurge(@Param("id") Integer id, @Param("now") Long now, @Param("leaseUntil") Long leaseUntil);
+
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE community SET purge_lease_until = :leaseUntil WHERE id = :id AND deleted_time IS NOT NULL",
+		nativeQuery = true)
+	int renewPurge(@Param("id") Integer id, @Param("leaseUntil") Long leaseUntil);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM community WHERE id = :id AND deleted_time IS NOT NULL", nativeQuery = true)
+	int purgeById(@Param("id") Integer id);
+}
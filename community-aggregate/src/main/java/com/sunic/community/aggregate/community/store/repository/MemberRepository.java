@@ -1,9 +1,14 @@
 package com.sunic.community.aggregate.community.store.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.sunic.community.aggregate.community.store.jpo.MemberJpo;
 
@@ -14,4 +19,12 @@ public interface MemberRepository extends JpaRepository<MemberJpo, Integer> {
 	boolean existsByCommunityIdAndUserId(Integer communityId, Integer userId);
 
 	void deleteByCommunityIdAndUserId(Integer communityId, Integer userId);
-}
\ No newline at end of file
+
+	@Query("select c.id from MemberJpo m join m.community c where m.userId = :userId and c.deletedTime is null")
+	List<Integer> findCommunityIdsByUserId(@Param("userId") Integer userId);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM member WHERE community_id = :communityId LIMIT :limit", nativeQuery = true)
+	int deleteChunkByCommunityId(@Param("communityId") Integer communityId, @Param("limit") int limit);
+}
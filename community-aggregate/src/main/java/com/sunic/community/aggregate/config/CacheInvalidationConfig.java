@@ -0,0 +1,32 @@
+package com.sunic.community.aggregate.config;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.sunic.community.aggregate.cache.TwoLevelCache;
+import com.sunic.community.aggregate.post.store.RecentPostCache;
+
+@Configuration
+@ConditionalOnProperty(prefix = "community.cache", name = "enabled", havingValue = "true")
+public class CacheInvalidationConfig {
+
+	@Bean
+	public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+		TwoLevelCache twoLevelCache, RecentPostCache recentPostCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(
+			(message, pattern) -> twoLevelCache.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(TwoLevelCache.INVALIDATION_CHANNEL));
+		container.addMessageListener(
+			(message, pattern) -> recentPostCache.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(TwoLevelCache.INVALIDATION_CHANNEL));
+		return container;
+	}
+}
@@ -0,0 +1,36 @@
+package com.sunic.community.aggregate.config.datasource;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs reads whose result outlives the request, such as cache fills, on the primary so a lagging replica
+ * cannot seed them. With replica routing the read gets its own read-only transaction, because a connection
+ * the caller already holds may be a replica connection; without it the read simply joins the caller's.
+ */
+@Component
+public class PrimaryReads {
+
+	private final TransactionTemplate transactionTemplate;
+	private final boolean replicaEnabled;
+
+	public PrimaryReads(PlatformTransactionManager transactionManager,
+		@Value("${community.datasource.replica.enabled:false}") boolean replicaEnabled) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.transactionTemplate.setReadOnly(true);
+		this.replicaEnabled = replicaEnabled;
+	}
+
+	public <T> T read(Supplier<T> read) {
+		if (!replicaEnabled) {
+			return read.get();
+		}
+		return ReadYourWritesContext.onPrimary(() -> transactionTemplate.execute(status -> read.get()));
+	}
+}
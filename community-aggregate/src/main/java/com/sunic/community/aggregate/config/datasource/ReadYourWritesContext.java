@@ -0,0 +1,68 @@
+package com.sunic.community.aggregate.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-request state deciding whether read-only transactions may use the replica.
+ * A request that wrote, or that carries a read-your-writes deadline from an earlier write, reads from the primary.
+ */
+public final class ReadYourWritesContext {
+
+	private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+	private static final ThreadLocal<Boolean> FORCED_PRIMARY = new ThreadLocal<>();
+
+	private ReadYourWritesContext() {
+	}
+
+	public static void open(Long primaryUntil) {
+		CURRENT.set(new State(primaryUntil != null ? primaryUntil : 0L));
+	}
+
+	public static void close() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Runs the read with every connection fetched meanwhile routed to the primary, with or without a request.
+	 */
+	public static <T> T onPrimary(Supplier<T> read) {
+		if (FORCED_PRIMARY.get() != null) {
+			return read.get();
+		}
+		FORCED_PRIMARY.set(Boolean.TRUE);
+		try {
+			return read.get();
+		} finally {
+			FORCED_PRIMARY.remove();
+		}
+	}
+
+	public static boolean requiresPrimary() {
+		if (FORCED_PRIMARY.get() != null) {
+			return true;
+		}
+		State state = CURRENT.get();
+		return state != null && (state.wrote || System.currentTimeMillis() < state.primaryUntil);
+	}
+
+	public static boolean hasWritten() {
+		State state = CURRENT.get();
+		return state != null && state.wrote;
+	}
+
+	static void markWrite() {
+		State state = CURRENT.get();
+		if (state != null) {
+			state.wrote = true;
+		}
+	}
+
+	private static final class State {
+		private final long primaryUntil;
+		private boolean wrote;
+
+		private State(long primaryUntil) {
+			this.primaryUntil = primaryUntil;
+		}
+	}
+}
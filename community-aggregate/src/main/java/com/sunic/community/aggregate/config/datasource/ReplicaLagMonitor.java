@@ -0,0 +1,54 @@
+package com.sunic.community.aggregate.config.datasource;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls the replica's replication delay and takes it out of rotation while it exceeds the tolerance
+ * or cannot be checked.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+	private final JdbcTemplate replicaJdbcTemplate;
+	private final long maxLagSeconds;
+	private final boolean enabled;
+	private volatile boolean replicaUsable = true;
+
+	public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, boolean enabled) {
+		this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		this.maxLagSeconds = maxLagSeconds;
+		this.enabled = enabled;
+	}
+
+	public boolean isReplicaUsable() {
+		return replicaUsable;
+	}
+
+	@Scheduled(fixedDelayString = "${community.datasource.replica.lag-check-interval-ms:1000}")
+	public void check() {
+		if (!enabled) {
+			return;
+		}
+		boolean usable;
+		try {
+			List<Long> lags = replicaJdbcTemplate.query("SHOW REPLICA STATUS",
+				(rs, rowNum) -> rs.getObject("Seconds_Behind_Source", Long.class));
+			usable = lags.stream().allMatch(lag -> lag != null && lag <= maxLagSeconds);
+		} catch (DataAccessException e) {
+			log.debug("Replica lag check failed", e);
+			usable = false;
+		}
+		if (usable != replicaUsable) {
+			log.warn("Replica {} for read-only transactions", usable ? "back in rotation" : "taken out of rotation");
+			replicaUsable = usable;
+		}
+	}
+}
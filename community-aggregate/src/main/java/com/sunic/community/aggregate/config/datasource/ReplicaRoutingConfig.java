@@ -0,0 +1,73 @@
+package com.sunic.community.aggregate.config.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "community.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("community.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(
+		@Value("${community.datasource.replica.url}") String url,
+		@Value("${community.datasource.replica.username}") String username,
+		@Value("${community.datasource.replica.password}") String password,
+		DataSourceProperties properties) {
+		HikariDataSource dataSource = DataSourceBuilder.create()
+			.type(HikariDataSource.class)
+			.driverClassName(properties.determineDriverClassName())
+			.url(url)
+			.username(username)
+			.password(password)
+			.build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		@Value("${community.datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+		@Value("${community.datasource.replica.lag-check-enabled:true}") boolean lagCheckEnabled) {
+		return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds, lagCheckEnabled);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(
+		@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		ReplicaLagMonitor replicaLagMonitor) {
+		ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor);
+		routingDataSource.setTargetDataSources(Map.of(
+			ReplicaRoutingDataSource.Route.PRIMARY, primaryDataSource,
+			ReplicaRoutingDataSource.Route.REPLICA, replicaDataSource));
+		routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		routingDataSource.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
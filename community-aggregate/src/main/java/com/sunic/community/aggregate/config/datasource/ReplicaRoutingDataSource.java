@@ -0,0 +1,33 @@
+package com.sunic.community.aggregate.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the replica while it is within the lag tolerance,
+ * and everything else to the primary. Must sit behind a lazy connection proxy so that the read-only flag
+ * is already bound when the connection is actually fetched.
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	enum Route {
+		PRIMARY, REPLICA
+	}
+
+	private final ReplicaLagMonitor lagMonitor;
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return lagMonitor.isReplicaUsable() && !ReadYourWritesContext.requiresPrimary()
+				? Route.REPLICA : Route.PRIMARY;
+		}
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			ReadYourWritesContext.markWrite();
+		}
+		return Route.PRIMARY;
+	}
+}
@@ -0,0 +1,37 @@
+package com.sunic.community.aggregate.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one Logic or Store call, so recordings can tie GC pauses and lock contention to a domain operation.
+ */
+@Name("com.sunic.community.DomainOperation")
+@Label("Domain Operation")
+@Category({"Community", "Domain"})
+@Description("A CommunityLogic, PostLogic or Store call")
+@StackTrace(false)
+class DomainOperationEvent extends Event {
+
+	@Label("Layer")
+	String layer;
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Entity Id")
+	@Description("Id of the returned entity or Rdo, otherwise the first numeric argument, usually the community, "
+		+ "post or comment id")
+	long entityId;
+
+	@Label("Row Count")
+	@Description("Size of a returned collection, otherwise 1 for a result and 0 for none")
+	int rowCount;
+
+	@Label("Failure")
+	String failure;
+}
@@ -0,0 +1,105 @@
+package com.sunic.community.aggregate.config.jfr;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.sunic.community.spec.community.entity.Community;
+import com.sunic.community.spec.community.entity.Member;
+import com.sunic.community.spec.community.facade.sdo.CommunityRdo;
+import com.sunic.community.spec.post.entity.Comment;
+import com.sunic.community.spec.post.entity.Post;
+import com.sunic.community.spec.post.facade.sdo.CommentRdo;
+import com.sunic.community.spec.post.facade.sdo.PostRdo;
+import com.sunic.community.spec.post.facade.sdo.PostReactionRdo;
+
+/**
+ * Emits a {@link DomainOperationEvent} around every Logic and Store call. When no recording has the event
+ * enabled the call proceeds without building the event fields.
+ * <p>
+ * The entity id is the id of the returned entity or Rdo when there is one, otherwise the first numeric argument:
+ * <ul>
+ *     <li>creates, updates, {@code save}, {@code update} and {@code findById}: the returned entity's id, so a
+ *     create records the id it generated</li>
+ *     <li>reads, deletes and reactions by id, and lists of a community or post: the community, post or comment id,
+ *     which is always the first argument</li>
+ *     <li>feed and membership lookups by user: the user id</li>
+ *     <li>batch reads, joins and leaves, and comments queued for write-behind, which have no id yet: 0</li>
+ * </ul>
+ */
+@Aspect
+@Component
+public class DomainOperationEventAspect {
+
+	@Around("within(com.sunic.community.aggregate..*Logic) || within(com.sunic.community.aggregate..*Store)")
+	public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+		DomainOperationEvent event = new DomainOperationEvent();
+		if (!event.isEnabled()) {
+			return joinPoint.proceed();
+		}
+
+		event.begin();
+		Object result = null;
+		try {
+			result = joinPoint.proceed();
+			event.rowCount = rowCount(result);
+			return result;
+		} catch (Throwable e) {
+			event.failure = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				Class<?> type = joinPoint.getSignature().getDeclaringType();
+				event.layer = type.getSimpleName().endsWith("Logic") ? "logic" : "store";
+				event.operation = type.getSimpleName() + "." + joinPoint.getSignature().getName();
+				event.entityId = entityId(result, joinPoint.getArgs());
+				event.commit();
+			}
+		}
+	}
+
+	private static long entityId(Object result, Object[] args) {
+		Integer resultId = resultId(result);
+		if (resultId != null) {
+			return resultId;
+		}
+		for (Object arg : args) {
+			if (arg instanceof Integer || arg instanceof Long) {
+				return ((Number)arg).longValue();
+			}
+		}
+		return 0;
+	}
+
+	private static Integer resultId(Object result) {
+		return switch (result) {
+			case Post post -> post.getId();
+			case Comment comment -> comment.getId();
+			case Community community -> community.getId();
+			case Member member -> member.getId();
+			case PostRdo rdo -> rdo.getId();
+			case CommentRdo rdo -> rdo.getId();
+			case CommunityRdo rdo -> rdo.getId();
+			case PostReactionRdo rdo -> rdo.getPostId();
+			case null, default -> null;
+		};
+	}
+
+	private static int rowCount(Object result) {
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+		if (result instanceof Map<?, ?> map) {
+			return map.size();
+		}
+		if (result instanceof Boolean found) {
+			return found ? 1 : 0;
+		}
+		return result == null ? 0 : 1;
+	}
+}
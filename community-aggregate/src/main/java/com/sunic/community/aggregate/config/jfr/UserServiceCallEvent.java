@@ -0,0 +1,26 @@
+package com.sunic.community.aggregate.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one user-service check made by {@code UserProxy}.
+ */
+@Name("com.sunic.community.UserServiceCall")
+@Label("User Service Call")
+@Category({"Community", "Remote"})
+@StackTrace(false)
+public class UserServiceCallEvent extends Event {
+
+	@Label("Check")
+	public String check;
+
+	@Label("User Id")
+	public long userId;
+
+	@Label("Outcome")
+	public String outcome;
+}
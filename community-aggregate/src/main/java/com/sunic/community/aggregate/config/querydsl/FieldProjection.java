@@ -0,0 +1,30 @@
+package com.sunic.community.aggregate.config.querydsl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.querydsl.core.types.Expression;
+
+/**
+ * Turns a sparse fieldset into the columns to select. The id is always selected; names without a column,
+ * such as associations or derived values, are left to the caller.
+ */
+public final class FieldProjection {
+
+	private FieldProjection() {
+	}
+
+	public static Expression<?>[] columns(Expression<?> id, Map<String, Expression<?>> columnsByField,
+		Set<String> fields) {
+		List<Expression<?>> columns = new ArrayList<>();
+		columns.add(id);
+		columnsByField.forEach((field, column) -> {
+			if (fields.contains(field)) {
+				columns.add(column);
+			}
+		});
+		return columns.toArray(Expression<?>[]::new);
+	}
+}
@@ -0,0 +1,33 @@
+package com.sunic.community.aggregate.config.sql;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Reports every JDBC statement and batch executed by a Hibernate session to {@link SqlStatementTracker}.
+ * Registered for all sessions through {@code hibernate.session.events.auto}.
+ */
+public class SqlStatementListener extends BaseSessionEventListener {
+
+	private long statementStart;
+	private long batchStart;
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		statementStart = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		SqlStatementTracker.record(System.nanoTime() - statementStart);
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		batchStart = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		SqlStatementTracker.record(System.nanoTime() - batchStart);
+	}
+}
@@ -0,0 +1,44 @@
+package com.sunic.community.aggregate.config.sql;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC statements executed by Hibernate on one thread while a measurement was open, and the time spent in them.
+ * Not thread-safe; it is only updated by the thread that opened it.
+ */
+public class SqlStatementStats {
+
+	private final SqlStatementStats parent;
+	private int statementCount;
+	private long dbTimeNanos;
+
+	SqlStatementStats(SqlStatementStats parent) {
+		this.parent = parent;
+	}
+
+	public int getStatementCount() {
+		return statementCount;
+	}
+
+	public long getDbTimeNanos() {
+		return dbTimeNanos;
+	}
+
+	public double getDbTimeMillis() {
+		return dbTimeNanos / (double)TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	SqlStatementStats getParent() {
+		return parent;
+	}
+
+	void add(long elapsedNanos) {
+		statementCount++;
+		dbTimeNanos += elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return statementCount + " statements in " + String.format("%.2f", getDbTimeMillis()) + " ms";
+	}
+}
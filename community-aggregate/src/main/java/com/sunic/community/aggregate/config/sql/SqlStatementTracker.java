@@ -0,0 +1,58 @@
+package com.sunic.community.aggregate.config.sql;
+
+/**
+ * Counts the JDBC statements Hibernate executes on the current thread, fed by {@link SqlStatementListener}.
+ * <p>
+ * Measurements nest, and a statement counts toward every open one. Integration tests can assert statement
+ * budgets directly:
+ * <pre>{@code
+ * SqlStatementStats stats = SqlStatementTracker.measure(() -> postLogic.getPostsByCommunity(1, null, 20));
+ * assertThat(stats.getStatementCount()).isLessThanOrEqualTo(2);
+ * }</pre>
+ * Statements issued through {@code JdbcTemplate} bypass Hibernate and are not counted.
+ */
+public final class SqlStatementTracker {
+
+	private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+	private SqlStatementTracker() {
+	}
+
+	public static SqlStatementStats measure(Runnable action) {
+		SqlStatementStats stats = start();
+		try {
+			action.run();
+		} finally {
+			stop(stats);
+		}
+		return stats;
+	}
+
+	public static SqlStatementStats start() {
+		SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	public static void stop(SqlStatementStats stats) {
+		if (stats.getParent() == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(stats.getParent());
+		}
+	}
+
+	/**
+	 * @return DB time of the innermost open measurement on this thread, or 0 when none is open
+	 */
+	public static long currentDbTimeNanos() {
+		SqlStatementStats stats = CURRENT.get();
+		return stats != null ? stats.getDbTimeNanos() : 0L;
+	}
+
+	static void record(long elapsedNanos) {
+		for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.getParent()) {
+			stats.add(elapsedNanos);
+		}
+	}
+}
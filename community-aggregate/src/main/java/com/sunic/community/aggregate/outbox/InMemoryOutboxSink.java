@@ -0,0 +1,31 @@
+package com.sunic.community.aggregate.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps relayed events in memory so tests and local runs can assert on what downstream systems would see.
+ */
+@Component
+@ConditionalOnProperty(prefix = "community.outbox", name = "sink", havingValue = "in-memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+	private final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void publish(List<OutboxEvent> batch) {
+		events.addAll(batch);
+	}
+
+	public List<OutboxEvent> getEvents() {
+		return new ArrayList<>(events);
+	}
+
+	public void clear() {
+		events.clear();
+	}
+}
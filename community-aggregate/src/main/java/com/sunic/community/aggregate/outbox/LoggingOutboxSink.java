@@ -0,0 +1,27 @@
+package com.sunic.community.aggregate.outbox;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Default sink until a broker is wired in. Logs only the type and aggregate of each event, at DEBUG, so relaying
+ * neither floods the log nor copies post and comment content into it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "community.outbox", name = "sink", havingValue = "logging", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+
+	@Override
+	public void publish(List<OutboxEvent> events) {
+		if (!log.isDebugEnabled()) {
+			return;
+		}
+		events.forEach(event -> log.debug("Domain event #{} {} {}#{}", event.getId(), event.getEventType(),
+			event.getAggregateType(), event.getAggregateId()));
+	}
+}
@@ -0,0 +1,19 @@
+package com.sunic.community.aggregate.outbox;
+
+import com.sunic.community.spec.common.event.DomainEventType;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class OutboxEvent {
+	private final Long id;
+	private final DomainEventType eventType;
+	private final String aggregateType;
+	private final Integer aggregateId;
+	private final String payload;
+	private final Long occurredTime;
+}
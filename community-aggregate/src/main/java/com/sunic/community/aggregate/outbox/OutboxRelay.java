@@ -0,0 +1,76 @@
+package com.sunic.community.aggregate.outbox;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sunic.community.aggregate.outbox.jpo.OutboxEventJpo;
+import com.sunic.community.aggregate.outbox.repository.OutboxEventRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes unpublished outbox events to the {@link OutboxSink} in id order, one batch per transaction.
+ * <p>
+ * Each batch is locked with SELECT ... FOR UPDATE, so replicas relay one after another instead of
+ * interleaving, and is marked published in the same transaction. A failing sink rolls the batch back and
+ * it is delivered again on the next run, which makes delivery at-least-once.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxSink outboxSink;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${community.outbox.batch-size:100}")
+	private int batchSize;
+
+	@Value("${community.outbox.retention-ms:86400000}")
+	private long retentionMs;
+
+	public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink outboxSink,
+		PlatformTransactionManager transactionManager) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.outboxSink = outboxSink;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Scheduled(fixedDelayString = "${community.outbox.relay-interval-ms:1000}")
+	public void relay() {
+		try {
+			Integer relayed;
+			do {
+				relayed = transactionTemplate.execute(status -> relayBatch());
+			} while (relayed != null && relayed >= batchSize);
+		} catch (RuntimeException e) {
+			log.warn("Outbox relay stopped early, will retry", e);
+		}
+	}
+
+	@Scheduled(cron = "${community.compaction.cron:0 0 4 * * *}")
+	public void purgePublished() {
+		long before = System.currentTimeMillis() - retentionMs;
+		int deleted;
+		do {
+			deleted = outboxEventRepository.purgePublishedChunk(before, batchSize);
+		} while (deleted >= batchSize);
+	}
+
+	private int relayBatch() {
+		List<OutboxEventJpo> batch = outboxEventRepository.lockUnpublished(batchSize);
+		if (batch.isEmpty()) {
+			return 0;
+		}
+		outboxSink.publish(batch.stream().map(OutboxEventJpo::toDomain).collect(Collectors.toList()));
+		outboxEventRepository.markPublished(batch.stream().map(OutboxEventJpo::getId).collect(Collectors.toList()),
+			System.currentTimeMillis());
+		return batch.size();
+	}
+}
@@ -0,0 +1,11 @@
+package com.sunic.community.aggregate.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events. Events arrive in outbox id order. A sink that throws makes the relay
+ * retry the whole batch, so sinks must tolerate redelivery, e.g. by deduplicating on {@link OutboxEvent#getId()}.
+ */
+public interface OutboxSink {
+	void publish(List<OutboxEvent> events);
+}
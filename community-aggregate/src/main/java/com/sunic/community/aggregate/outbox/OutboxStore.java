@@ -0,0 +1,46 @@
+package com.sunic.community.aggregate.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sunic.community.aggregate.outbox.jpo.OutboxEventJpo;
+import com.sunic.community.aggregate.outbox.repository.OutboxEventRepository;
+import com.sunic.community.spec.common.event.DomainEventType;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Appends domain events to the outbox table. Must run inside the transaction of the change it describes,
+ * so an event is stored if and only if that change commits.
+ */
+@Component
+@Timed(value = "community.store", histogram = true)
+@RequiredArgsConstructor
+public class OutboxStore {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(DomainEventType eventType, Integer aggregateId, Object payload) {
+		outboxEventRepository.save(OutboxEventJpo.builder()
+			.eventType(eventType)
+			.aggregateType(eventType.getAggregateType())
+			.aggregateId(aggregateId)
+			.payload(toJson(payload))
+			.occurredTime(System.currentTimeMillis())
+			.build());
+	}
+
+	private String toJson(Object payload) {
+		try {
+			return objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Event payload is not serializable: " + payload.getClass(), e);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.sunic.community.aggregate.outbox.jpo;
+
+import com.sunic.community.aggregate.outbox.OutboxEvent;
+import com.sunic.community.spec.common.event.DomainEventType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_event_published", columnList = "published_time, id"))
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+@Getter
+public class OutboxEventJpo {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	private DomainEventType eventType;
+
+	private String aggregateType;
+	private Integer aggregateId;
+
+	@Lob
+	@Column(columnDefinition = "TEXT")
+	private String payload;
+
+	private Long occurredTime;
+	private Long publishedTime;
+
+	public OutboxEvent toDomain() {
+		return OutboxEvent.builder()
+			.id(id)
+			.eventType(eventType)
+			.aggregateType(aggregateType)
+			.aggregateId(aggregateId)
+			.payload(payload)
+			.occurredTime(occurredTime)
+			.build();
+	}
+}
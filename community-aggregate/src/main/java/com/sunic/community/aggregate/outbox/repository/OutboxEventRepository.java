@@ -0,0 +1,28 @@
+package com.sunic.community.aggregate.outbox.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sunic.community.aggregate.outbox.jpo.OutboxEventJpo;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpo, Long> {
+	@Query(value = "SELECT * FROM outbox_event WHERE published_time IS NULL ORDER BY id LIMIT :limit FOR UPDATE",
+		nativeQuery = true)
+	List<OutboxEventJpo> lockUnpublished(@Param("limit") int limit);
+
+	@Modifying
+	@Query("update OutboxEventJpo e set e.publishedTime = :publishedTime where e.id in :ids")
+	int markPublished(@Param("ids") List<Long> ids, @Param("publishedTime") Long publishedTime);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM outbox_event WHERE published_time < :before LIMIT :limit", nativeQuery = true)
+	int purgePublishedChunk(@Param("before") Long before, @Param("limit") int limit);
+}
@@ -1,78 +1,202 @@
 package com.sunic.community.aggregate.post.logic;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.sunic.community.aggregate.community.store.MemberStore;
+import com.sunic.community.aggregate.outbox.OutboxStore;
 import com.sunic.community.aggregate.post.store.CommentStore;
+import com.sunic.community.aggregate.post.store.CommentWriteBehindQueue;
+import com.sunic.community.aggregate.post.store.PostCursor;
+import com.sunic.community.aggregate.post.store.PostReactionStore;
 import com.sunic.community.aggregate.post.store.PostStore;
+import com.sunic.community.aggregate.post.store.PostViewCounter;
 import com.sunic.community.aggregate.proxy.UserProxy;
+import com.sunic.community.spec.common.BatchItemRdo;
+import com.sunic.community.spec.common.event.DomainEventType;
+import com.sunic.community.spec.common.exception.InvalidRequestException;
 import com.sunic.community.spec.post.entity.Comment;
 import com.sunic.community.spec.post.entity.Post;
+import com.sunic.community.spec.post.exception.PostNotFoundException;
 import com.sunic.community.spec.post.facade.sdo.CommentCdo;
 import com.sunic.community.spec.post.facade.sdo.CommentRdo;
 import com.sunic.community.spec.post.facade.sdo.PostCdo;
+import com.sunic.community.spec.post.facade.sdo.PostFeedRdo;
 import com.sunic.community.spec.post.facade.sdo.PostRdo;
+import com.sunic.community.spec.post.facade.sdo.PostReactionRdo;
 import com.sunic.community.spec.post.facade.sdo.PostUdo;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Component
+@Timed(value = "community.logic", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostLogic {
 
 	private final PostStore postStore;
 	private final CommentStore commentStore;
+	private final MemberStore memberStore;
 	private final UserProxy userProxy;
+	private final PostViewCounter postViewCounter;
+	private final PostReactionStore postReactionStore;
+	private final CommentWriteBehindQueue commentWriteBehindQueue;
+	private final OutboxStore outboxStore;
+
+	@Value("${community.page.max-size:100}")
+	private int maxPageSize;
+
+	@Value("${community.batch.max-ids:200}")
+	private int maxBatchSize;
 
 	@Transactional
 	public PostRdo createPost(PostCdo createSdo) {
 		userProxy.validateUser(createSdo.getRegistrant());
 		Post post = Post.create(createSdo);
 		Post saved = postStore.save(post);
-		return saved.toRdo();
+		PostRdo rdo = saved.toRdo();
+		outboxStore.append(DomainEventType.POST_CREATED, saved.getId(), rdo);
+		return rdo;
 	}
 
 	@Transactional
 	public PostRdo updatePost(PostUdo updateSdo) {
 		userProxy.validateUser(updateSdo.getModifier());
-		Post post = postStore.findById(updateSdo.getId());
-		post.update(updateSdo);
-		Post updated = postStore.update(post);
-		return updated.toRdo();
+		Post updated = postStore.update(updateSdo.getId(), post -> post.update(updateSdo));
+		PostRdo rdo = updated.toRdo();
+		outboxStore.append(DomainEventType.POST_UPDATED, updated.getId(), rdo);
+		return rdo;
 	}
 
 	@Transactional
 	public void deletePost(Integer postId, Integer userId) {
 		userProxy.validateUser(userId);
 		postStore.deleteById(postId);
+		outboxStore.append(DomainEventType.POST_DELETED, postId, Map.of("postId", postId, "deletedBy", userId));
 	}
 
 	public PostRdo getPost(Integer postId) {
 		Post post = postStore.findById(postId);
+		postViewCounter.increment(postId);
+		post.setViewCount(postViewCounter.getViewCount(postId));
 		return post.toRdo();
 	}
 
+	/**
+	 * Returns one entry per requested id, in request order, loading all of them in a single query.
+	 * Unlike {@link #getPost(Integer)} this does not count as a view.
+	 */
+	public List<BatchItemRdo<PostRdo>> getPosts(List<Integer> postIds) {
+		validateBatchSize(postIds);
+		Map<Integer, Post> posts = postStore.findAllByIds(new LinkedHashSet<>(postIds));
+		Map<Integer, Long> viewCounts = postViewCounter.getViewCounts(posts.keySet());
+		posts.values().forEach(post -> post.setViewCount(viewCounts.get(post.getId())));
+		return postIds.stream()
+			.map(id -> BatchItemRdo.of(id,
+				posts.containsKey(id) ? posts.get(id).toRdo() : null))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Like {@link #getPosts(List)} but loads only the requested fields. Comments and view counts are fetched
+	 * only when named, comments in one query for all posts.
+	 */
+	public List<BatchItemRdo<PostRdo>> getPosts(List<Integer> postIds, Set<String> fields) {
+		validateBatchSize(postIds);
+		Map<Integer, Post> posts = postStore.findAllByIds(new LinkedHashSet<>(postIds), fields);
+		loadRequested(List.copyOf(posts.values()), fields);
+		return postIds.stream()
+			.map(id -> BatchItemRdo.of(id,
+				posts.containsKey(id) ? posts.get(id).toRdo() : null))
+			.collect(Collectors.toList());
+	}
+
 	public List<PostRdo> getPostsByCommunity(Integer communityId) {
-		return postStore.findByCommunityId(communityId).stream()
-			.map(Post::toRdo).collect(Collectors.toList());
+		List<Post> posts = postStore.findByCommunityId(communityId);
+		Map<Integer, Long> viewCounts = postViewCounter.getViewCounts(
+			posts.stream().map(Post::getId).collect(Collectors.toList()));
+		posts.forEach(post -> post.setViewCount(viewCounts.get(post.getId())));
+		return posts.stream().map(Post::toRdo).collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the community's posts with only the requested fields loaded. Comments and view counts are
+	 * fetched only when named, comments in one query for all posts.
+	 */
+	public List<PostRdo> getPostsByCommunity(Integer communityId, Set<String> fields) {
+		List<Post> posts = postStore.findByCommunityId(communityId, fields);
+		loadRequested(posts, fields);
+		return posts.stream().map(Post::toRdo).collect(Collectors.toList());
 	}
 
+	/**
+	 * Returns one newest-first page of post heads, without comments and view counts.
+	 * Pages within the community's recent-post buffer, including the first one, are served without SQL.
+	 */
+	public List<PostRdo> getPostsByCommunity(Integer communityId, String cursor, int size) {
+		validatePageSize(size);
+		return postStore.findRecentByCommunityId(communityId, PostCursor.parse(cursor), size).stream()
+			.map(Post::toRdo)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Builds one page of the user's home feed by k-way merging the newest post heads of every joined community.
+	 * Each community contributes at most {@code size} heads, so the cost does not grow with feed depth.
+	 */
+	public PostFeedRdo getFeed(Integer userId, String cursor, int size) {
+		validatePageSize(size);
+		PostCursor before = PostCursor.parse(cursor);
+		List<List<Post>> heads = memberStore.findCommunityIdsByUserId(userId).stream()
+			.map(communityId -> postStore.findRecentByCommunityId(communityId, before, size))
+			.collect(Collectors.toList());
+
+		List<Post> page = mergeNewestFirst(heads, size);
+		return PostFeedRdo.builder()
+			.posts(page.stream().map(Post::toRdo).collect(Collectors.toList()))
+			.nextCursor(page.size() == size ? PostCursor.of(page.get(page.size() - 1)).toString() : null)
+			.build();
+	}
+
+	/**
+	 * Stores the comment, or in write-behind mode only validates and queues it.
+	 * A queued comment is returned without an id, carrying its provisional id instead.
+	 */
 	@Transactional
 	public CommentRdo createComment(CommentCdo createSdo) {
 		userProxy.validateUser(createSdo.getRegistrant());
 		Comment comment = Comment.create(createSdo);
+		if (commentWriteBehindQueue.isEnabled()) {
+			if (!postStore.existsById(comment.getPostId())) {
+				throw new PostNotFoundException("Post not found with id: " + comment.getPostId());
+			}
+			return commentWriteBehindQueue.enqueue(comment).toRdo();
+		}
 		Comment saved = commentStore.save(comment);
-		return saved.toRdo();
+		CommentRdo rdo = saved.toRdo();
+		outboxStore.append(DomainEventType.COMMENT_CREATED, saved.getPostId(), rdo);
+		return rdo;
 	}
 
 	@Transactional
 	public void deleteComment(Integer commentId, Integer userId) {
 		userProxy.validateUser(userId);
-		commentStore.deleteById(commentId);
+		Integer postId = commentStore.deleteById(commentId);
+		outboxStore.append(DomainEventType.COMMENT_DELETED, postId,
+			Map.of("commentId", commentId, "postId", postId, "deletedBy", userId));
 	}
 
 	public List<CommentRdo> getCommentsByPost(Integer postId) {
@@ -80,4 +204,84 @@ public class PostLogic {
 			.map(Comment::toRdo)
 			.collect(Collectors.toList());
 	}
+
+	@Transactional
+	public PostReactionRdo likePost(Integer postId, Integer userId) {
+		userProxy.validateUser(userId);
+		if (!postStore.existsById(postId)) {
+			throw new PostNotFoundException("Post not found with id: " + postId);
+		}
+		postReactionStore.like(postId, userId);
+		return getReactions(List.of(postId), userId).get(0);
+	}
+
+	@Transactional
+	public PostReactionRdo unlikePost(Integer postId, Integer userId) {
+		userProxy.validateUser(userId);
+		postReactionStore.unlike(postId, userId);
+		return getReactions(List.of(postId), userId).get(0);
+	}
+
+	public List<PostReactionRdo> getReactions(List<Integer> postIds, Integer userId) {
+		validateBatchSize(postIds);
+		Map<Integer, Long> likeCounts = postReactionStore.countLikes(postIds);
+		Set<Integer> likedPostIds = postReactionStore.findLikedPostIds(userId, postIds);
+		return postIds.stream()
+			.map(postId -> PostReactionRdo.builder()
+				.postId(postId)
+				.likeCount(likeCounts.getOrDefault(postId, 0L))
+				.liked(likedPostIds.contains(postId))
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	private void loadRequested(List<Post> posts, Set<String> fields) {
+		if (posts.isEmpty()) {
+			return;
+		}
+		List<Integer> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+		if (fields.contains("comments")) {
+			Map<Integer, List<Comment>> comments = commentStore.findByPostIds(postIds);
+			posts.forEach(post -> post.setComments(comments.getOrDefault(post.getId(), List.of())));
+		}
+		if (fields.contains("viewCount")) {
+			Map<Integer, Long> viewCounts = postViewCounter.getViewCounts(postIds);
+			posts.forEach(post -> post.setViewCount(viewCounts.get(post.getId())));
+		}
+	}
+
+	private void validatePageSize(int size) {
+		if (size < 1 || size > maxPageSize) {
+			throw new InvalidRequestException("Page size must be between 1 and " + maxPageSize);
+		}
+	}
+
+	private void validateBatchSize(List<Integer> ids) {
+		if (ids.isEmpty() || ids.size() > maxBatchSize) {
+			throw new InvalidRequestException("Between 1 and " + maxBatchSize + " ids are required");
+		}
+	}
+
+	private static List<Post> mergeNewestFirst(List<List<Post>> sources, int limit) {
+		Comparator<Post> newestFirst = Comparator.comparing(Post::getRegisteredTime)
+			.thenComparing(Post::getId)
+			.reversed();
+		PriorityQueue<Deque<Post>> queue = new PriorityQueue<>(
+			(left, right) -> newestFirst.compare(left.peekFirst(), right.peekFirst()));
+		for (List<Post> source : sources) {
+			if (!source.isEmpty()) {
+				queue.add(new ArrayDeque<>(source));
+			}
+		}
+
+		List<Post> merged = new ArrayList<>(limit);
+		while (merged.size() < limit && !queue.isEmpty()) {
+			Deque<Post> source = queue.poll();
+			merged.add(source.pollFirst());
+			if (!source.isEmpty()) {
+				queue.add(source);
+			}
+		}
+		return merged;
+	}
 }
\ No newline at end of file
@@ -1,49 +1,68 @@
 package com.sunic.community.aggregate.post.store;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import com.sunic.community.aggregate.cache.TwoLevelCache;
 import com.sunic.community.aggregate.post.store.jpo.CommentJpo;
-import com.sunic.community.aggregate.post.store.jpo.PostJpo;
 import com.sunic.community.aggregate.post.store.repository.CommentRepository;
 import com.sunic.community.aggregate.post.store.repository.PostRepository;
 import com.sunic.community.spec.post.entity.Comment;
 import com.sunic.community.spec.post.exception.CommentNotFoundException;
 import com.sunic.community.spec.post.exception.PostNotFoundException;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Component
+@Timed(value = "community.store", histogram = true)
 @RequiredArgsConstructor
 public class CommentStore {
 
 	private final CommentRepository commentRepository;
 	private final PostRepository postRepository;
+	private final TwoLevelCache twoLevelCache;
 
 	public Comment save(Comment comment) {
-		PostJpo postJpo = postRepository.findById(comment.getPostId())
-			.orElseThrow(() -> new PostNotFoundException("Post not found with id: " + comment.getPostId()));
-
 		CommentJpo jpo = CommentJpo.fromDomain(comment);
-		jpo.setPost(postJpo);
+		jpo.setPost(postRepository.lockLiveById(comment.getPostId())
+			.orElseThrow(() -> new PostNotFoundException("Post not found with id: " + comment.getPostId())));
 
 		CommentJpo saved = commentRepository.save(jpo);
+		twoLevelCache.evict(PostStore.CACHE_NAME, comment.getPostId());
 		return saved.toDomain();
 	}
 
+	/**
+	 * Loads the comments of all given posts in one query, grouped by post id in registration order.
+	 */
+	public Map<Integer, List<Comment>> findByPostIds(Collection<Integer> postIds) {
+		return commentRepository.findByPostIdInOrderByRegisteredTimeAsc(postIds).stream()
+			.map(CommentJpo::toDomain)
+			.collect(Collectors.groupingBy(Comment::getPostId));
+	}
+
 	public List<Comment> findByPostId(Integer postId) {
 		return commentRepository.findByPostIdOrderByRegisteredTimeAsc(postId).stream()
 			.map(CommentJpo::toDomain)
 			.collect(Collectors.toList());
 	}
 
-	public void deleteById(Integer id) {
-		if (!commentRepository.existsById(id)) {
+	/**
+	 * @return the id of the post the comment belonged to
+	 */
+	public Integer deleteById(Integer id) {
+		Integer postId = commentRepository.findPostIdById(id)
+			.orElseThrow(() -> new CommentNotFoundException("Comment not found with id: " + id));
+		if (commentRepository.markDeleted(id, System.currentTimeMillis()) == 0) {
 			throw new CommentNotFoundException("Comment not found with id: " + id);
 		}
-		commentRepository.deleteById(id);
+		twoLevelCache.evict(PostStore.CACHE_NAME, postId);
+		return postId;
 	}
 
 }
\ No newline at end of file
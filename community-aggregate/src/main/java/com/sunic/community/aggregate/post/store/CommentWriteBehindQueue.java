@@ -0,0 +1,220 @@
+package com.sunic.community.aggregate.post.store;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sunic.community.aggregate.cache.TwoLevelCache;
+import com.sunic.community.aggregate.outbox.OutboxStore;
+import com.sunic.community.spec.common.event.DomainEventType;
+import com.sunic.community.spec.common.exception.TooManyRequestsException;
+import com.sunic.community.spec.post.entity.Comment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Accept-then-persist path for new comments, active when {@code community.comment.write-behind.enabled} is set.
+ * Accepted comments wait in a bounded queue and a single writer thread stores them with multi-row INSERTs.
+ * <p>
+ * An accepted comment has no id yet, only a provisional id that is stored with the row. A comment is lost only
+ * if the process dies before its batch is written or its batch fails every attempt. If a batch statement fails,
+ * its rows are retried one at a time, and a row that still fails (e.g. its post was purged in the meantime) is
+ * dropped and counted, while a row whose provisional id is already stored is skipped. Any other failure, such as
+ * being unable to begin or commit the transaction, retries the whole batch with backoff. Each written batch
+ * appends its {@code COMMENT_CREATED} events in the same transaction, carrying the provisional ids.
+ */
+@Slf4j
+@Component
+public class CommentWriteBehindQueue {
+
+	private static final String INSERT_PREFIX = "INSERT INTO comment "
+		+ "(content, post_id, registered_time, registrant, modified_time, modifier, provisional_id) VALUES ";
+	private static final String ROW = "(?, ?, ?, ?, ?, ?, ?)";
+	private static final int MAX_BATCH_ATTEMPTS = 5;
+	private static final long RETRY_BACKOFF_MS = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TwoLevelCache twoLevelCache;
+	private final OutboxStore outboxStore;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final int batchSize;
+	private final BlockingQueue<Comment> queue;
+	private final Counter dropped;
+	private volatile boolean running;
+	private Thread writer;
+
+	public CommentWriteBehindQueue(JdbcTemplate jdbcTemplate, TwoLevelCache twoLevelCache, OutboxStore outboxStore,
+		PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+		@Value("${community.comment.write-behind.enabled:false}") boolean enabled,
+		@Value("${community.comment.write-behind.queue-capacity:10000}") int queueCapacity,
+		@Value("${community.comment.write-behind.batch-size:200}") int batchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.twoLevelCache = twoLevelCache;
+		this.outboxStore = outboxStore;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.batchSize = batchSize;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.dropped = meterRegistry.counter("community.comment.write-behind.dropped");
+		meterRegistry.gauge("community.comment.write-behind.queued", queue, BlockingQueue::size);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return the comment with its provisional id
+	 * @throws TooManyRequestsException when the queue is full
+	 */
+	public Comment enqueue(Comment comment) {
+		Comment accepted = comment.toBuilder().provisionalId(UUID.randomUUID().toString()).build();
+		if (!queue.offer(accepted)) {
+			throw new TooManyRequestsException("Comment queue is full, retry later");
+		}
+		return accepted;
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		writer = new Thread(this::drain, "comment-write-behind");
+		writer.start();
+	}
+
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		if (writer == null) {
+			return;
+		}
+		running = false;
+		writer.join(TimeUnit.SECONDS.toMillis(30));
+	}
+
+	/**
+	 * Writes batches until stopped and the queue is empty. An interrupt does not abandon accepted comments:
+	 * the writer stops waiting, writes whatever is still queued and only then exits.
+	 */
+	private void drain() {
+		List<Comment> batch = new ArrayList<>(batchSize);
+		boolean interrupted = false;
+		while (running || !queue.isEmpty()) {
+			try {
+				Comment first = interrupted ? queue.poll() : queue.poll(1, TimeUnit.SECONDS);
+				if (first == null) {
+					if (interrupted) {
+						break;
+					}
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				interrupted |= writeWithRetry(batch);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			} finally {
+				batch.clear();
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Writes the batch, retrying it with backoff when the write fails outside a single statement, e.g. when no
+	 * transaction can be begun or committed. The batch is dropped and counted only after the last attempt, so
+	 * the writer thread survives any failure.
+	 *
+	 * @return whether the writer was interrupted while backing off
+	 */
+	private boolean writeWithRetry(List<Comment> batch) {
+		boolean interrupted = false;
+		for (int attempt = 1; ; attempt++) {
+			try {
+				write(batch);
+				batch.stream().map(Comment::getPostId).distinct()
+					.forEach(postId -> twoLevelCache.evict(PostStore.CACHE_NAME, postId));
+				return interrupted;
+			} catch (RuntimeException e) {
+				if (attempt >= MAX_BATCH_ATTEMPTS) {
+					log.error("Dropping {} queued comments after {} attempts", batch.size(), attempt, e);
+					dropped.increment(batch.size());
+					return interrupted;
+				}
+				log.warn("Failed to write {} queued comments, attempt {} of {}", batch.size(), attempt,
+					MAX_BATCH_ATTEMPTS, e);
+				if (!interrupted) {
+					try {
+						TimeUnit.MILLISECONDS.sleep(RETRY_BACKOFF_MS * attempt);
+					} catch (InterruptedException interruption) {
+						interrupted = true;
+					}
+				}
+			}
+		}
+	}
+
+	private void write(List<Comment> batch) {
+		try {
+			insert(batch);
+		} catch (DataAccessException e) {
+			log.warn("Failed to write {} queued comments in one statement, retrying one by one", batch.size(), e);
+			for (Comment comment : batch) {
+				try {
+					insert(Collections.singletonList(comment));
+				} catch (DuplicateKeyException alreadyWritten) {
+					log.debug("Queued comment {} was already written", comment.getProvisionalId());
+				} catch (DataAccessException rowFailure) {
+					log.error("Dropping queued comment {} on post {}", comment.getProvisionalId(),
+						comment.getPostId(), rowFailure);
+					dropped.increment();
+				}
+			}
+		}
+	}
+
+	private void insert(List<Comment> comments) {
+		transactionTemplate.executeWithoutResult(status -> {
+			insertRows(comments);
+			comments.forEach(comment ->
+				outboxStore.append(DomainEventType.COMMENT_CREATED, comment.getPostId(), comment.toRdo()));
+		});
+	}
+
+	private void insertRows(List<Comment> comments) {
+		String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(comments.size(), ROW));
+		Object[] args = new Object[comments.size() * 7];
+		int i = 0;
+		for (Comment comment : comments) {
+			args[i++] = comment.getContent();
+			args[i++] = comment.getPostId();
+			args[i++] = comment.getRegisteredTime();
+			args[i++] = comment.getRegistrant();
+			args[i++] = comment.getModifiedTime();
+			args[i++] = comment.getModifier();
+			args[i++] = comment.getProvisionalId();
+		}
+		jdbcTemplate.update(sql, args);
+	}
+}
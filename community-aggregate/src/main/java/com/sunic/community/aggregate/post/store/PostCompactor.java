@@ -0,0 +1,73 @@
+package com.sunic.community.aggregate.post.store;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sunic.community.aggregate.post.store.repository.CommentRepository;
+import com.sunic.community.aggregate.post.store.repository.PostReactionCountRepository;
+import com.sunic.community.aggregate.post.store.repository.PostReactionRepository;
+import com.sunic.community.aggregate.post.store.repository.PostRepository;
+import com.sunic.community.aggregate.post.store.repository.PostStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hard-deletes posts and comments tombstoned by {@link PostStore#deleteById} and {@link CommentStore#deleteById}.
+ * Runs off-peak and works in batches so that no single transaction touches more than one batch of rows.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCompactor {
+
+	private final PostRepository postRepository;
+	private final CommentRepository commentRepository;
+	private final PostStatsRepository postStatsRepository;
+	private final PostReactionRepository postReactionRepository;
+	private final PostReactionCountRepository postReactionCountRepository;
+
+	@Value("${community.compaction.batch-size:500}")
+	private int batchSize;
+
+	@Scheduled(cron = "${community.compaction.cron:0 0 4 * * *}")
+	public void compact() {
+		try {
+			long posts = compactPosts();
+			long comments = compactComments();
+			log.info("Compacted {} deleted posts and {} deleted comments", posts, comments);
+		} catch (DataAccessException e) {
+			log.warn("Compaction stopped early, will resume on next run", e);
+		}
+	}
+
+	private long compactPosts() {
+		long total = 0;
+		List<Integer> postIds;
+		while (!(postIds = postRepository.findDeletedIds(batchSize)).isEmpty()) {
+			int deletedComments;
+			do {
+				deletedComments = commentRepository.deleteChunkByPostIds(postIds, batchSize);
+			} while (deletedComments >= batchSize);
+			postStatsRepository.deleteByPostIds(postIds);
+			postReactionRepository.deleteByPostIds(postIds);
+			postReactionCountRepository.deleteByPostIds(postIds);
+			total += postRepository.purgeByIds(postIds);
+		}
+		return total;
+	}
+
+	private long compactComments() {
+		long total = 0;
+		int deleted;
+		do {
+			deleted = commentRepository.purgeDeletedChunk(batchSize);
+			total += deleted;
+		} while (deleted >= batchSize);
+		return total;
+	}
+}
@@ -0,0 +1,44 @@
+package com.sunic.community.aggregate.post.store;
+
+import com.sunic.community.spec.common.exception.InvalidRequestException;
+import com.sunic.community.spec.post.entity.Post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Keyset position in a newest-first post listing, encoded for clients as {@code registeredTime_id}.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+	private final long registeredTime;
+	private final int id;
+
+	public static PostCursor of(Post post) {
+		return new PostCursor(post.getRegisteredTime(), post.getId());
+	}
+
+	public static PostCursor parse(String value) {
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		int separator = value.indexOf('_');
+		try {
+			return new PostCursor(Long.parseLong(value.substring(0, separator)),
+				Integer.parseInt(value.substring(separator + 1)));
+		} catch (NumberFormatException | IndexOutOfBoundsException e) {
+			throw new InvalidRequestException("Invalid cursor: " + value);
+		}
+	}
+
+	public boolean precedes(Post post) {
+		return post.getRegisteredTime() < registeredTime
+			|| (post.getRegisteredTime() == registeredTime && post.getId() < id);
+	}
+
+	@Override
+	public String toString() {
+		return registeredTime + "_" + id;
+	}
+}
@@ -0,0 +1,59 @@
+package com.sunic.community.aggregate.post.store;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.sunic.community.aggregate.post.store.repository.PostReactionCountRepository;
+import com.sunic.community.aggregate.post.store.repository.PostReactionCountRepository.LikeCount;
+import com.sunic.community.aggregate.post.store.repository.PostReactionRepository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@Timed(value = "community.store", histogram = true)
+@RequiredArgsConstructor
+public class PostReactionStore {
+
+	private final PostReactionRepository postReactionRepository;
+	private final PostReactionCountRepository postReactionCountRepository;
+
+	@Value("${community.reaction.count-shards:16}")
+	private int countShards;
+
+	public boolean like(Integer postId, Integer userId) {
+		boolean added = postReactionRepository.insertIfAbsent(postId, userId, System.currentTimeMillis()) > 0;
+		if (added) {
+			postReactionCountRepository.addLikeCount(postId, randomShard(), 1L);
+		}
+		return added;
+	}
+
+	public boolean unlike(Integer postId, Integer userId) {
+		boolean removed = postReactionRepository.deleteByPostIdAndUserId(postId, userId) > 0;
+		if (removed) {
+			postReactionCountRepository.addLikeCount(postId, randomShard(), -1L);
+		}
+		return removed;
+	}
+
+	public Map<Integer, Long> countLikes(Collection<Integer> postIds) {
+		return postReactionCountRepository.sumLikeCounts(postIds).stream()
+			.collect(Collectors.toMap(LikeCount::getPostId, LikeCount::getLikeCount));
+	}
+
+	public Set<Integer> findLikedPostIds(Integer userId, Collection<Integer> postIds) {
+		return new HashSet<>(postReactionRepository.findPostIdsByUserId(userId, postIds));
+	}
+
+	private int randomShard() {
+		return ThreadLocalRandom.current().nextInt(countShards);
+	}
+}
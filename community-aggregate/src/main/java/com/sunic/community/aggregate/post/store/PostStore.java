@@ -1,65 +1,188 @@
 package com.sunic.community.aggregate.post.store;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
-import com.sunic.community.aggregate.community.store.jpo.CommunityJpo;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sunic.community.aggregate.cache.TwoLevelCache;
 import com.sunic.community.aggregate.community.store.repository.CommunityRepository;
+import com.sunic.community.aggregate.config.datasource.PrimaryReads;
+import com.sunic.community.aggregate.config.querydsl.FieldProjection;
 import com.sunic.community.aggregate.post.store.jpo.PostJpo;
+import com.sunic.community.aggregate.post.store.jpo.PostTypeJpo;
+import com.sunic.community.aggregate.post.store.jpo.QPostJpo;
 import com.sunic.community.aggregate.post.store.repository.PostRepository;
 import com.sunic.community.spec.community.exception.CommunityNotFoundException;
 import com.sunic.community.spec.post.entity.Post;
+import com.sunic.community.spec.post.entity.PostType;
 import com.sunic.community.spec.post.exception.PostNotFoundException;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Component
+@Timed(value = "community.store", histogram = true)
 @RequiredArgsConstructor
 public class PostStore {
 
+	public static final String CACHE_NAME = "post";
+
+	private static final QPostJpo POST = QPostJpo.postJpo;
+	private static final Map<String, Expression<?>> POST_COLUMNS = Map.of(
+		"title", POST.title,
+		"content", POST.content,
+		"postType", POST.postType,
+		"communityId", POST.community.id,
+		"registeredTime", POST.registeredTime,
+		"registrant", POST.registrant,
+		"modifiedTime", POST.modifiedTime,
+		"modifier", POST.modifier);
+
 	private final PostRepository postRepository;
 	private final CommunityRepository communityRepository;
+	private final RecentPostCache recentPostCache;
+	private final TwoLevelCache twoLevelCache;
+	private final JPAQueryFactory queryFactory;
+	private final PrimaryReads primaryReads;
 
 	public Post save(Post post) {
-		CommunityJpo communityJpo = communityRepository.findById(post.getCommunityId())
-			.orElseThrow(() -> new CommunityNotFoundException("Community not found with id: " + post.getCommunityId()));
-
 		PostJpo jpo = PostJpo.fromDomain(post);
-		jpo.setCommunity(communityJpo);
+		jpo.setCommunity(communityRepository.lockLiveById(post.getCommunityId())
+			.orElseThrow(() -> new CommunityNotFoundException(
+				"Community not found with id: " + post.getCommunityId())));
 
-		PostJpo saved = postRepository.save(jpo);
-		return saved.toDomain();
+		Post saved = postRepository.save(jpo).toDomain();
+		recentPostCache.added(saved);
+		return saved;
 	}
 
 	public Post findById(Integer id) {
-		PostJpo jpo = postRepository.findById(id)
-			.orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
-		return jpo.toDomain();
+		return twoLevelCache.get(CACHE_NAME, id, Post.class, () -> load(id)).toBuilder().build();
+	}
+
+	/**
+	 * Loads the posts with their comments in one {@code IN} query, keyed by id. Missing and deleted ids are absent.
+	 */
+	public Map<Integer, Post> findAllByIds(Collection<Integer> ids) {
+		return postRepository.findAllWithCommentsByIdIn(ids).stream()
+			.collect(Collectors.toMap(PostJpo::getId, PostJpo::toDomain,
+				(first, second) -> first));
+	}
+
+	/**
+	 * Loads the posts in one {@code IN} query keyed by id, selecting only the columns of the requested fields.
+	 * Comments and view counts are not columns and are left unset.
+	 */
+	public Map<Integer, Post> findAllByIds(Collection<Integer> ids, Set<String> fields) {
+		return queryFactory.select(FieldProjection.columns(POST.id, POST_COLUMNS, fields))
+			.from(POST)
+			.where(POST.id.in(ids))
+			.fetch().stream()
+			.map(PostStore::toPost)
+			.collect(Collectors.toMap(Post::getId, post -> post));
+	}
+
+	/**
+	 * Returns the community's posts newest first, selecting only the columns of the requested fields.
+	 * Comments and view counts are not columns and are left unset.
+	 */
+	public List<Post> findByCommunityId(Integer communityId, Set<String> fields) {
+		return queryFactory.select(FieldProjection.columns(POST.id, POST_COLUMNS, fields))
+			.from(POST)
+			.where(POST.community.id.eq(communityId))
+			.orderBy(POST.registeredTime.desc())
+			.fetch().stream()
+			.map(PostStore::toPost)
+			.collect(Collectors.toList());
+	}
+
+	public boolean existsById(Integer id) {
+		return postRepository.existsById(id);
 	}
 
+	/**
+	 * Returns the community's posts newest first, with their comments loaded in the same query.
+	 */
 	public List<Post> findByCommunityId(Integer communityId) {
-		return postRepository.findByCommunityIdOrderByRegisteredTimeDesc(communityId).stream()
+		return postRepository.findWithCommentsByCommunityId(communityId).stream()
 			.map(PostJpo::toDomain)
 			.collect(Collectors.toList());
 	}
 
-	public Post update(Post post) {
-		PostJpo jpo = postRepository.findById(post.getId())
-			.orElseThrow(() -> new PostNotFoundException("Post not found with id: " + post.getId()));
+	/**
+	 * Returns up to {@code limit} post heads of the community older than the cursor, newest first.
+	 * Served from the community's {@link RecentPostBuffer} unless the cursor reaches past the buffered posts.
+	 */
+	public List<Post> findRecentByCommunityId(Integer communityId, PostCursor cursor, int limit) {
+		RecentPostBuffer buffer = recentPostCache.get(communityId, capacity -> primaryReads.read(() ->
+			toHeads(postRepository.findRecentByCommunityId(communityId, PageRequest.of(0, capacity)))));
+		List<Post> cached = buffer.before(cursor, limit);
+		if (cached.size() >= limit || buffer.isComplete()) {
+			return cached;
+		}
 
-		jpo.updateFromDomain(post);
+		PageRequest page = PageRequest.of(0, limit);
+		if (cursor == null) {
+			return toHeads(postRepository.findRecentByCommunityId(communityId, page));
+		}
+		return toHeads(postRepository.findRecentByCommunityIdBefore(communityId, cursor.getRegisteredTime(),
+			cursor.getId(), page));
+	}
 
-		PostJpo saved = postRepository.save(jpo);
-		return saved.toDomain();
+	/**
+	 * Applies the modification to the managed post loaded once in the current transaction.
+	 * Changes are flushed by dirty checking on commit, so no explicit save is issued.
+	 */
+	public Post update(Integer id, Consumer<Post> modification) {
+		PostJpo jpo = postRepository.findById(id)
+			.orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
+		Post post = jpo.toDomain();
+		modification.accept(post);
+		jpo.updateFromDomain(post);
+		recentPostCache.updated(post);
+		twoLevelCache.evict(CACHE_NAME, id);
+		return post;
 	}
 
 	public void deleteById(Integer id) {
-		if (!postRepository.existsById(id)) {
+		if (postRepository.markDeleted(id, System.currentTimeMillis()) == 0) {
 			throw new PostNotFoundException("Post not found with id: " + id);
 		}
-		postRepository.deleteById(id);
+		recentPostCache.removed(id);
+		twoLevelCache.evict(CACHE_NAME, id);
 	}
 
+	private Post load(Integer id) {
+		PostJpo jpo = postRepository.findById(id)
+			.orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
+		return jpo.toDomain();
+	}
+
+	private static Post toPost(Tuple row) {
+		PostTypeJpo postType = row.get(POST.postType);
+		return Post.builder()
+			.id(row.get(POST.id))
+			.title(row.get(POST.title))
+			.content(row.get(POST.content))
+			.postType(postType == null ? null : PostType.valueOf(postType.name()))
+			.communityId(row.get(POST.community.id))
+			.registeredTime(row.get(POST.registeredTime))
+			.registrant(row.get(POST.registrant))
+			.modifiedTime(row.get(POST.modifiedTime))
+			.modifier(row.get(POST.modifier))
+			.build();
+	}
+
+	private static List<Post> toHeads(List<PostJpo> jpos) {
+		return jpos.stream().map(PostJpo::toHead).collect(Collectors.toList());
+	}
 }
\ No newline at end of file
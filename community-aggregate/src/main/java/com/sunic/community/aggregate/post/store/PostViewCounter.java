@@ -0,0 +1,231 @@
+package com.sunic.community.aggregate.post.store;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sunic.community.aggregate.post.store.jpo.PostStatsJpo;
+import com.sunic.community.aggregate.post.store.repository.PostStatsRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts post views in per-post {@link LongAdder}s and writes the deltas to {@code post_stats} in batched
+ * upserts, one transaction per chunk of {@code community.view-count.flush-chunk-size} posts.
+ * <p>
+ * Views are lost only on an unclean shutdown, and then at most the views counted since the previous flush,
+ * i.e. one {@code community.view-count.flush-interval-ms} worth. A failed chunk puts its deltas back and a
+ * graceful shutdown flushes whatever is pending.
+ * <p>
+ * A flush takes a post's adder out of the map and drains it. An increment that lands on an adder already
+ * taken out notices and moves its view to the current one, so no view slips between them.
+ * <p>
+ * A flushed delta stays readable together with the row value it was locked at, and is only added to a
+ * persisted count that has not yet moved past that value. It is kept for {@code retain-flushed-ms} after its
+ * commit, longer than the replica may lag before reads fall back to the primary, so a read served by a lagging
+ * replica neither loses nor double counts it. Reads are validated against flushes moving counts between the
+ * maps and, after a few optimistic attempts, take the read lock instead of returning a torn value.
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+	private static final String UPSERT_SQL = "INSERT INTO post_stats (post_id, view_count) VALUES (?, ?) "
+		+ "ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count)";
+	private static final int OPTIMISTIC_READ_ATTEMPTS = 3;
+
+	private final PostStatsRepository postStatsRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+	private final long retainFlushedMs;
+
+	private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+	// Oldest first; replaced only while holding the write lock of moveLock.
+	private volatile List<FlushedChunk> flushed = Collections.emptyList();
+	private final StampedLock moveLock = new StampedLock();
+
+	public PostViewCounter(PostStatsRepository postStatsRepository, JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${community.view-count.flush-chunk-size:500}") int chunkSize,
+		@Value("${community.view-count.retain-flushed-ms:7000}") long retainFlushedMs) {
+		this.postStatsRepository = postStatsRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.retainFlushedMs = retainFlushedMs;
+	}
+
+	public void increment(Integer postId) {
+		add(postId, 1);
+	}
+
+	public long getViewCount(Integer postId) {
+		return getViewCounts(List.of(postId)).get(postId);
+	}
+
+	public Map<Integer, Long> getViewCounts(Collection<Integer> postIds) {
+		for (int attempt = 0; attempt < OPTIMISTIC_READ_ATTEMPTS; attempt++) {
+			long stamp = moveLock.tryOptimisticRead();
+			if (stamp != 0) {
+				Map<Integer, Long> viewCounts = readViewCounts(postIds);
+				if (moveLock.validate(stamp)) {
+					return viewCounts;
+				}
+			}
+			Thread.onSpinWait();
+		}
+		long stamp = moveLock.readLock();
+		try {
+			return readViewCounts(postIds);
+		} finally {
+			moveLock.unlockRead(stamp);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${community.view-count.flush-interval-ms:5000}")
+	public void flush() {
+		retireFlushed();
+		List<Integer> postIds = pending.keySet().stream().sorted().collect(Collectors.toList());
+		for (int from = 0; from < postIds.size(); from += chunkSize) {
+			flushChunk(postIds.subList(from, Math.min(from + chunkSize, postIds.size())));
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	private void flushChunk(List<Integer> postIds) {
+		FlushedChunk chunk = new FlushedChunk();
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				Map<Integer, Long> lockedCounts = lockCounts(postIds);
+				move(() -> {
+					for (Integer postId : postIds) {
+						LongAdder adder = pending.remove(postId);
+						long delta = adder != null ? adder.sumThenReset() : 0;
+						if (delta != 0) {
+							chunk.deltas.put(postId, new InFlight(delta, lockedCounts.getOrDefault(postId, 0L)));
+						}
+					}
+					flushed = with(flushed, chunk);
+				});
+
+				List<Object[]> batchArgs = chunk.deltas.entrySet().stream()
+					.map(entry -> new Object[] {entry.getKey(), entry.getValue().delta()})
+					.collect(Collectors.toList());
+				jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+			});
+			chunk.committedAt = System.currentTimeMillis();
+		} catch (RuntimeException e) {
+			log.warn("Failed to flush view counts of {} posts, will retry", chunk.deltas.size(), e);
+			move(() -> {
+				chunk.deltas.forEach((postId, inFlight) -> add(postId, inFlight.delta()));
+				flushed = flushed.stream().filter(other -> other != chunk).collect(Collectors.toList());
+			});
+		}
+	}
+
+	private void retireFlushed() {
+		long before = System.currentTimeMillis() - retainFlushedMs;
+		if (flushed.stream().anyMatch(chunk -> chunk.isCommittedBefore(before))) {
+			move(() -> flushed = flushed.stream()
+				.filter(chunk -> !chunk.isCommittedBefore(before))
+				.collect(Collectors.toList()));
+		}
+	}
+
+	/**
+	 * Adds the views to the post's current adder. If a flush took that adder out of the map before the views
+	 * landed, whatever the flush did not drain from it is carried over to the adder that replaced it.
+	 */
+	private void add(Integer postId, long views) {
+		long stray = views;
+		while (stray != 0) {
+			LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+			adder.add(stray);
+			stray = pending.get(postId) == adder ? 0 : adder.sumThenReset();
+		}
+	}
+
+	private Map<Integer, Long> readViewCounts(Collection<Integer> postIds) {
+		List<FlushedChunk> chunks = flushed;
+		Map<Integer, Long> persisted = postStatsRepository.findAllById(postIds).stream()
+			.collect(Collectors.toMap(PostStatsJpo::getPostId, PostStatsJpo::getViewCount));
+
+		Map<Integer, Long> viewCounts = new HashMap<>();
+		for (Integer postId : postIds) {
+			long stored = persisted.getOrDefault(postId, 0L);
+			LongAdder adder = pending.get(postId);
+			long count = stored + (adder != null ? adder.sum() : 0);
+			for (FlushedChunk chunk : chunks) {
+				InFlight inFlight = chunk.deltas.get(postId);
+				if (inFlight != null && stored <= inFlight.lockedCount()) {
+					count += inFlight.delta();
+				}
+			}
+			viewCounts.put(postId, count);
+		}
+		return viewCounts;
+	}
+
+	/**
+	 * Locks the rows being flushed and returns their counts, so a flushed delta can be told apart from a
+	 * committed one; no other flush can move these rows until this one commits.
+	 */
+	private Map<Integer, Long> lockCounts(List<Integer> postIds) {
+		String placeholders = String.join(",", Collections.nCopies(postIds.size(), "?"));
+		Map<Integer, Long> counts = new HashMap<>();
+		jdbcTemplate.query("SELECT post_id, view_count FROM post_stats WHERE post_id IN (" + placeholders
+				+ ") FOR UPDATE",
+			rs -> {
+				counts.put(rs.getInt("post_id"), rs.getLong("view_count"));
+			}, postIds.toArray());
+		return counts;
+	}
+
+	private void move(Runnable action) {
+		long stamp = moveLock.writeLock();
+		try {
+			action.run();
+		} finally {
+			moveLock.unlockWrite(stamp);
+		}
+	}
+
+	private static List<FlushedChunk> with(List<FlushedChunk> chunks, FlushedChunk chunk) {
+		List<FlushedChunk> result = new ArrayList<>(chunks);
+		result.add(chunk);
+		return result;
+	}
+
+	private static final class FlushedChunk {
+		private final Map<Integer, InFlight> deltas = new HashMap<>();
+		// 0 until the chunk's transaction commits.
+		private volatile long committedAt;
+
+		private boolean isCommittedBefore(long time) {
+			return committedAt != 0 && committedAt < time;
+		}
+	}
+
+	private record InFlight(long delta, long lockedCount) {
+	}
+}
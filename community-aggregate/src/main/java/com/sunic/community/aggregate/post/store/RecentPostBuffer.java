@@ -0,0 +1,152 @@
+package com.sunic.community.aggregate.post.store;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sunic.community.spec.post.entity.Post;
+
+/**
+ * Fixed-size ring of the newest post heads of one community, newest at {@code head}.
+ * The buffer always holds a contiguous newest-first prefix of the community's posts.
+ */
+public class RecentPostBuffer {
+
+	private final Post[] posts;
+	private int head;
+	private int size;
+	private boolean complete;
+
+	RecentPostBuffer(int capacity, List<Post> newestFirst) {
+		this.posts = new Post[capacity];
+		for (Post post : newestFirst) {
+			posts[size++] = post;
+		}
+		this.complete = newestFirst.size() < capacity;
+	}
+
+	/**
+	 * @return whether the buffer holds every post of the community, so a short answer needs no database lookup
+	 */
+	public synchronized boolean isComplete() {
+		return complete;
+	}
+
+	public synchronized List<Post> before(PostCursor cursor, int limit) {
+		List<Post> result = new ArrayList<>(Math.min(limit, size));
+		for (int i = 0; i < size && result.size() < limit; i++) {
+			Post post = get(i);
+			if (cursor == null || cursor.precedes(post)) {
+				result.add(post.toBuilder().build());
+			}
+		}
+		return result;
+	}
+
+	synchronized List<Integer> postIds() {
+		List<Integer> postIds = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			postIds.add(get(i).getId());
+		}
+		return postIds;
+	}
+
+	/**
+	 * Adds the post in order, or replaces it if it is already buffered.
+	 *
+	 * @return the post that is not buffered as a result, the given one or the oldest pushed out, or null
+	 */
+	synchronized Post push(Post post) {
+		int index = indexOf(post.getId());
+		if (index >= 0) {
+			posts[slot(index)] = post;
+			return null;
+		}
+		if (size > 0 && isNewer(get(0), post)) {
+			return insertSorted(post);
+		}
+		head = Math.floorMod(head - 1, posts.length);
+		Post pushedOut = posts[head];
+		posts[head] = post;
+		if (size < posts.length) {
+			size++;
+		} else {
+			complete = false;
+		}
+		return pushedOut;
+	}
+
+	synchronized void replace(Post post) {
+		int index = indexOf(post.getId());
+		if (index >= 0) {
+			posts[slot(index)] = post;
+		}
+	}
+
+	synchronized boolean remove(Integer postId) {
+		int index = indexOf(postId);
+		if (index < 0) {
+			return false;
+		}
+		for (int i = index; i < size - 1; i++) {
+			posts[slot(i)] = get(i + 1);
+		}
+		posts[slot(size - 1)] = null;
+		size--;
+		return true;
+	}
+
+	private Post insertSorted(Post post) {
+		List<Post> ordered = new ArrayList<>(size + 1);
+		for (int i = 0; i < size; i++) {
+			ordered.add(get(i));
+		}
+		int position = 0;
+		while (position < ordered.size() && isNewer(ordered.get(position), post)) {
+			position++;
+		}
+		if (position == size) {
+			// older than everything buffered, which is only kept while the buffer still holds the whole community
+			if (complete && size < posts.length) {
+				posts[slot(size++)] = post;
+				return null;
+			}
+			complete = false;
+			return post;
+		}
+		ordered.add(position, post);
+		Post pushedOut = null;
+		if (ordered.size() > posts.length) {
+			pushedOut = ordered.remove(ordered.size() - 1);
+			complete = false;
+		}
+
+		head = 0;
+		size = ordered.size();
+		for (int i = 0; i < posts.length; i++) {
+			posts[i] = i < size ? ordered.get(i) : null;
+		}
+		return pushedOut;
+	}
+
+	private int indexOf(Integer postId) {
+		for (int i = 0; i < size; i++) {
+			if (get(i).getId().equals(postId)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private Post get(int index) {
+		return posts[slot(index)];
+	}
+
+	private int slot(int index) {
+		return (head + index) % posts.length;
+	}
+
+	private static boolean isNewer(Post left, Post right) {
+		int byTime = Long.compare(left.getRegisteredTime(), right.getRegisteredTime());
+		return byTime > 0 || (byTime == 0 && left.getId() > right.getId());
+	}
+}
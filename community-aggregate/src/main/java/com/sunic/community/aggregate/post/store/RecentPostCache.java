@@ -0,0 +1,227 @@
+package com.sunic.community.aggregate.post.store;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sunic.community.aggregate.cache.TwoLevelCache;
+import com.sunic.community.spec.post.entity.Post;
+
+/**
+ * {@link RecentPostBuffer}s of the most recently read communities, bounded by an LRU over communities.
+ * Buffers are filled on first read and then kept current in place after each post write committed on this node.
+ * <p>
+ * Writes on other nodes arrive over {@link TwoLevelCache#INVALIDATION_CHANNEL}: a new or changed post drops the
+ * community's buffer so it is reloaded, a deleted post is removed in place. A buffer is also reloaded after
+ * {@code community.recent-posts.ttl-ms}, which bounds staleness when Redis is not in use. Loaders must read the
+ * primary, so a lagging replica cannot seed a buffer.
+ * <p>
+ * A load is not installed if a write to its community, or a delete of a post not buffered here, was applied
+ * while it ran. Community versions are striped, so writes elsewhere rarely hold back an install.
+ */
+@Component
+public class RecentPostCache {
+
+	static final String COMMUNITY_MESSAGE = "recent-posts:community:";
+	static final String POST_MESSAGE = "recent-posts:post:";
+
+	private static final int VERSION_STRIPES = 1024;
+
+	private final TwoLevelCache twoLevelCache;
+	private final String nodeId = UUID.randomUUID().toString();
+	private final Map<Integer, Resident> buffers;
+	// Community of every buffered post, so a delete finds its buffer without a lookup.
+	private final Map<Integer, Integer> communityByPost = new HashMap<>();
+	private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+	private final AtomicLong unplacedRemovals = new AtomicLong();
+	private final int capacity;
+	private final long ttlMs;
+
+	public RecentPostCache(TwoLevelCache twoLevelCache,
+		@Value("${community.recent-posts.capacity:50}") int capacity,
+		@Value("${community.recent-posts.max-communities:1000}") int maxCommunities,
+		@Value("${community.recent-posts.ttl-ms:60000}") long ttlMs) {
+		this.twoLevelCache = twoLevelCache;
+		this.capacity = capacity;
+		this.ttlMs = ttlMs;
+		this.buffers = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, Resident> eldest) {
+				if (size() <= maxCommunities) {
+					return false;
+				}
+				unindex(eldest.getValue().buffer());
+				return true;
+			}
+		};
+	}
+
+	public RecentPostBuffer get(Integer communityId, IntFunction<List<Post>> loader) {
+		long now = System.currentTimeMillis();
+		synchronized (buffers) {
+			Resident resident = buffers.get(communityId);
+			if (resident != null && now - resident.loadedAt() < ttlMs) {
+				return resident.buffer();
+			}
+		}
+
+		int stripe = stripe(communityId);
+		long observed = versions.get(stripe);
+		long observedRemovals = unplacedRemovals.get();
+		RecentPostBuffer loaded = new RecentPostBuffer(capacity, loader.apply(capacity));
+		synchronized (buffers) {
+			if (versions.get(stripe) == observed && unplacedRemovals.get() == observedRemovals) {
+				drop(communityId);
+				buffers.put(communityId, new Resident(loaded, now));
+				loaded.postIds().forEach(postId -> communityByPost.put(postId, communityId));
+			}
+		}
+		return loaded;
+	}
+
+	public void added(Post post) {
+		Integer communityId = post.getCommunityId();
+		afterCommit(() -> {
+			synchronized (buffers) {
+				Resident resident = changing(communityId);
+				if (resident != null) {
+					communityByPost.put(post.getId(), communityId);
+					Post pushedOut = resident.buffer().push(toHead(post));
+					if (pushedOut != null) {
+						communityByPost.remove(pushedOut.getId());
+					}
+				}
+			}
+			twoLevelCache.broadcast(COMMUNITY_MESSAGE + nodeId + ":" + communityId);
+		});
+	}
+
+	public void updated(Post post) {
+		Integer communityId = post.getCommunityId();
+		afterCommit(() -> {
+			synchronized (buffers) {
+				Resident resident = changing(communityId);
+				if (resident != null) {
+					resident.buffer().replace(toHead(post));
+				}
+			}
+			twoLevelCache.broadcast(COMMUNITY_MESSAGE + nodeId + ":" + communityId);
+		});
+	}
+
+	public void removed(Integer postId) {
+		afterCommit(() -> {
+			remove(postId);
+			twoLevelCache.broadcast(POST_MESSAGE + nodeId + ":" + postId);
+		});
+	}
+
+	public void evict(Integer communityId) {
+		afterCommit(() -> {
+			synchronized (buffers) {
+				versions.incrementAndGet(stripe(communityId));
+				drop(communityId);
+			}
+			twoLevelCache.broadcast(COMMUNITY_MESSAGE + nodeId + ":" + communityId);
+		});
+	}
+
+	/**
+	 * Applies a post write broadcast by another node; this node's own messages are ignored.
+	 */
+	public void onInvalidation(String message) {
+		if (message.startsWith(COMMUNITY_MESSAGE)) {
+			Integer communityId = fromOtherNode(message.substring(COMMUNITY_MESSAGE.length()));
+			if (communityId != null) {
+				synchronized (buffers) {
+					versions.incrementAndGet(stripe(communityId));
+					drop(communityId);
+				}
+			}
+		} else if (message.startsWith(POST_MESSAGE)) {
+			Integer postId = fromOtherNode(message.substring(POST_MESSAGE.length()));
+			if (postId != null) {
+				remove(postId);
+			}
+		}
+	}
+
+	private void remove(Integer postId) {
+		synchronized (buffers) {
+			Integer communityId = communityByPost.remove(postId);
+			if (communityId == null) {
+				unplacedRemovals.incrementAndGet();
+				return;
+			}
+			Resident resident = changing(communityId);
+			if (resident != null) {
+				resident.buffer().remove(postId);
+			}
+		}
+	}
+
+	/**
+	 * Marks a write to the community, so a load racing it is not installed, and returns its resident buffer.
+	 */
+	private Resident changing(Integer communityId) {
+		versions.incrementAndGet(stripe(communityId));
+		return buffers.get(communityId);
+	}
+
+	private void drop(Integer communityId) {
+		Resident resident = buffers.remove(communityId);
+		if (resident != null) {
+			unindex(resident.buffer());
+		}
+	}
+
+	private void unindex(RecentPostBuffer buffer) {
+		buffer.postIds().forEach(communityByPost::remove);
+	}
+
+	private Integer fromOtherNode(String payload) {
+		int separator = payload.lastIndexOf(':');
+		if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+			return null;
+		}
+		try {
+			return Integer.valueOf(payload.substring(separator + 1));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static int stripe(Integer communityId) {
+		return Math.floorMod(communityId, VERSION_STRIPES);
+	}
+
+	private static void afterCommit(Runnable update) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			update.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				update.run();
+			}
+		});
+	}
+
+	private static Post toHead(Post post) {
+		return post.toBuilder().comments(null).viewCount(null).build();
+	}
+
+	private record Resident(RecentPostBuffer buffer, long loadedAt) {
+	}
+}
@@ -1,7 +1,10 @@
 package com.sunic.community.aggregate.post.store.jpo;
 
+import org.hibernate.annotations.SQLRestriction;
+
 import com.sunic.community.spec.post.entity.Comment;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -17,6 +20,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "comment")
+@SQLRestriction("deleted_time is null")
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
@@ -36,31 +40,20 @@ public class CommentJpo {
 	private Integer registrant;
 	private Long modifiedTime;
 	private Integer modifier;
+	private Long deletedTime;
+
+	@Column(unique = true, length = 36)
+	private String provisionalId;
 
 	public void setPost(PostJpo post) {
 		this.post = post;
 	}
 
 	public static CommentJpo fromDomain(Comment comment) {
-		return CommentJpo.builder()
-			.id(comment.getId())
-			.content(comment.getContent())
-			.registeredTime(comment.getRegisteredTime())
-			.registrant(comment.getRegistrant())
-			.modifiedTime(comment.getModifiedTime())
-			.modifier(comment.getModifier())
-			.build();
+		return PostJpoMapper.INSTANCE.fromDomain(comment);
 	}
 
 	public Comment toDomain() {
-		return Comment.builder()
-			.id(id)
-			.content(content)
-			.postId(post != null ? post.getId() : null)
-			.registeredTime(registeredTime)
-			.registrant(registrant)
-			.modifiedTime(modifiedTime)
-			.modifier(modifier)
-			.build();
+		return PostJpoMapper.INSTANCE.toDomain(this);
 	}
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.sunic.community.aggregate.post.store.jpo;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 
 import com.sunic.community.aggregate.community.store.jpo.CommunityJpo;
 import com.sunic.community.spec.post.entity.Post;
@@ -16,6 +18,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -26,7 +29,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "post")
+@DynamicUpdate
+@Table(name = "post",
+	indexes = @Index(name = "idx_post_community_registered", columnList = "community_id, registered_time, id"))
+@SQLRestriction("deleted_time is null")
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
@@ -54,6 +60,7 @@ public class PostJpo {
 	private Integer registrant;
 	private Long modifiedTime;
 	private Integer modifier;
+	private Long deletedTime;
 
 	public void updateContent(String title, String content, PostTypeJpo postType, Integer modifier) {
 		this.title = title;
@@ -76,39 +83,18 @@ public class PostJpo {
 	}
 
 	public static PostJpo fromDomain(Post post) {
-		return PostJpo.builder()
-			.id(post.getId())
-			.title(post.getTitle())
-			.content(post.getContent())
-			.postType(convertToPostTypeJpo(post.getPostType()))
-			.registeredTime(post.getRegisteredTime())
-			.registrant(post.getRegistrant())
-			.modifiedTime(post.getModifiedTime())
-			.modifier(post.getModifier())
-			.build();
+		return PostJpoMapper.INSTANCE.fromDomain(post);
 	}
 
 	public Post toDomain() {
-		return Post.builder()
-			.id(id)
-			.title(title)
-			.content(content)
-			.postType(convertToPostType(postType))
-			.communityId(community != null ? community.getId() : null)
-			.comments(comments != null && !comments.isEmpty() ?
-				comments.stream().map(CommentJpo::toDomain).collect(Collectors.toList()) : new ArrayList<>())
-			.registeredTime(registeredTime)
-			.registrant(registrant)
-			.modifiedTime(modifiedTime)
-			.modifier(modifier)
-			.build();
+		return PostJpoMapper.INSTANCE.toDomain(this);
 	}
 
-	private static PostTypeJpo convertToPostTypeJpo(PostType postType) {
-		return PostTypeJpo.valueOf(postType.name());
+	public Post toHead() {
+		return PostJpoMapper.INSTANCE.toHead(this);
 	}
 
-	private static PostType convertToPostType(PostTypeJpo postTypeJpo) {
-		return PostType.valueOf(postTypeJpo.name());
+	private static PostTypeJpo convertToPostTypeJpo(PostType postType) {
+		return PostTypeJpo.valueOf(postType.name());
 	}
 }
\ No newline at end of file
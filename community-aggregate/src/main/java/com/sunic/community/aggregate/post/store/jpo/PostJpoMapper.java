@@ -0,0 +1,35 @@
+package com.sunic.community.aggregate.post.store.jpo;
+
+import java.util.ArrayList;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+import com.sunic.community.spec.common.timing.RequestTimings;
+import com.sunic.community.spec.post.entity.Comment;
+import com.sunic.community.spec.post.entity.Post;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, imports = ArrayList.class)
+public interface PostJpoMapper {
+	PostJpoMapper INSTANCE = RequestTimings.timed(PostJpoMapper.class, Mappers.getMapper(PostJpoMapper.class));
+
+	@Mapping(target = "communityId", source = "community.id")
+	@Mapping(target = "comments", source = "comments", defaultExpression = "java(new ArrayList<>())")
+	Post toDomain(PostJpo jpo);
+
+	@Mapping(target = "communityId", source = "community.id")
+	@Mapping(target = "comments", ignore = true)
+	Post toHead(PostJpo jpo);
+
+	@Mapping(target = "community", ignore = true)
+	@Mapping(target = "comments", ignore = true)
+	PostJpo fromDomain(Post post);
+
+	@Mapping(target = "postId", source = "post.id")
+	Comment toDomain(CommentJpo jpo);
+
+	@Mapping(target = "post", ignore = true)
+	CommentJpo fromDomain(Comment comment);
+}
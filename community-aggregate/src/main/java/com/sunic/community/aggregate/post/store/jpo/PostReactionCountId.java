@@ -0,0 +1,15 @@
+package com.sunic.community.aggregate.post.store.jpo;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PostReactionCountId implements Serializable {
+	private Integer postId;
+	private Integer shard;
+}
@@ -0,0 +1,34 @@
+package com.sunic.community.aggregate.post.store.jpo;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One of several counter rows per post. Likes are added to a random shard so that concurrent likers
+ * lock different rows; the like count of a post is the sum over its shards.
+ */
+@Entity
+@Table(name = "post_reaction_count")
+@IdClass(PostReactionCountId.class)
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+@Getter
+public class PostReactionCountJpo {
+	@Id
+	private Integer postId;
+
+	@Id
+	private Integer shard;
+
+	@ColumnDefault("0")
+	private Long likeCount;
+}
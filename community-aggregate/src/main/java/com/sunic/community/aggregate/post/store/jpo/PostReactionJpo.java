@@ -0,0 +1,29 @@
+package com.sunic.community.aggregate.post.store.jpo;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "post_reaction",
+	uniqueConstraints = @UniqueConstraint(name = "uk_post_reaction_post_user", columnNames = {"post_id", "user_id"}))
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+@Getter
+public class PostReactionJpo {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+
+	private Integer postId;
+	private Integer userId;
+	private Long registeredTime;
+}
@@ -0,0 +1,25 @@
+package com.sunic.community.aggregate.post.store.jpo;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "post_stats")
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+@Getter
+public class PostStatsJpo {
+	@Id
+	private Integer postId;
+
+	@ColumnDefault("0")
+	private Long viewCount;
+}
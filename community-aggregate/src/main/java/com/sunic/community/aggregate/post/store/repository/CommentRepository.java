@@ -1,13 +1,47 @@
 package com.sunic.community.aggregate.post.store.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.sunic.community.aggregate.post.store.jpo.CommentJpo;
 
 @Repository
 public interface CommentRepository extends JpaRepository<CommentJpo, Integer> {
-	List<CommentJpo> findByPostIdOrderByRegisteredTimeAsc(Integer postId);
-}
\ No newline at end of file
+	@Query("select c from CommentJpo c join c.post p "
+		+ "where p.id = :postId and p.deletedTime is null order by c.registeredTime asc")
+	List<CommentJpo> findByPostIdOrderByRegisteredTimeAsc(@Param("postId") Integer postId);
+
+	@Query("select c from CommentJpo c where c.post.id in :postIds order by c.registeredTime asc")
+	List<CommentJpo> findByPostIdInOrderByRegisteredTimeAsc(@Param("postIds") Collection<Integer> postIds);
+
+	@Query("select c.post.id from CommentJpo c where c.id = :id")
+	Optional<Integer> findPostIdById(@Param("id") Integer id);
+
+	@Modifying
+	@Query("update CommentJpo c set c.deletedTime = :deletedTime where c.id = :id and c.deletedTime is null")
+	int markDeleted(@Param("id") Integer id, @Param("deletedTime") Long deletedTime);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM comment WHERE deleted_time IS NOT NULL LIMIT :limit", nativeQuery = true)
+	int purgeDeletedChunk(@Param("limit") int limit);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM comment WHERE post_id IN (:postIds) LIMIT :limit", nativeQuery = true)
+	int deleteChunkByPostIds(@Param("postIds") List<Integer> postIds, @Param("limit") int limit);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM comment WHERE post_id IN (SELECT id FROM post WHERE community_id = :communityId) LIMIT :limit",
+		nativeQuery = true)
+	int deleteChunkByCommunityId(@Param("communityId") Integer communityId, @Param("limit") int limit);
+}
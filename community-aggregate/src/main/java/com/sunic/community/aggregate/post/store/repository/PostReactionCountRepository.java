@@ -0,0 +1,43 @@
+package com.sunic.community.aggregate.post.store.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sunic.community.aggregate.post.store.jpo.PostReactionCountId;
+import com.sunic.community.aggregate.post.store.jpo.PostReactionCountJpo;
+
+@Repository
+public interface PostReactionCountRepository extends JpaRepository<PostReactionCountJpo, PostReactionCountId> {
+	@Modifying
+	@Query(value = "INSERT INTO post_reaction_count (post_id, shard, like_count) VALUES (:postId, :shard, :delta) "
+		+ "ON DUPLICATE KEY UPDATE like_count = like_count + :delta", nativeQuery = true)
+	int addLikeCount(@Param("postId") Integer postId, @Param("shard") int shard, @Param("delta") long delta);
+
+	@Query("select c.postId as postId, sum(c.likeCount) as likeCount from PostReactionCountJpo c "
+		+ "where c.postId in :postIds group by c.postId")
+	List<LikeCount> sumLikeCounts(@Param("postIds") Collection<Integer> postIds);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM post_reaction_count WHERE post_id IN (:postIds)", nativeQuery = true)
+	int deleteByPostIds(@Param("postIds") List<Integer> postIds);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM post_reaction_count WHERE post_id IN (SELECT id FROM post WHERE community_id = :communityId) "
+		+ "LIMIT :limit", nativeQuery = true)
+	int deleteChunkByCommunityId(@Param("communityId") Integer communityId, @Param("limit") int limit);
+
+	interface LikeCount {
+		Integer getPostId();
+
+		Long getLikeCount();
+	}
+}
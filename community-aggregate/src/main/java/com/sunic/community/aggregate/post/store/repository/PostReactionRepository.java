@@ -0,0 +1,40 @@
+package com.sunic.community.aggregate.post.store.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sunic.community.aggregate.post.store.jpo.PostReactionJpo;
+
+@Repository
+public interface PostReactionRepository extends JpaRepository<PostReactionJpo, Integer> {
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO post_reaction (post_id, user_id, registered_time) "
+		+ "VALUES (:postId, :userId, :registeredTime)", nativeQuery = true)
+	int insertIfAbsent(@Param("postId") Integer postId, @Param("userId") Integer userId,
+		@Param("registeredTime") Long registeredTime);
+
+	@Modifying
+	@Query("delete from PostReactionJpo r where r.postId = :postId and r.userId = :userId")
+	int deleteByPostIdAndUserId(@Param("postId") Integer postId, @Param("userId") Integer userId);
+
+	@Query("select r.postId from PostReactionJpo r where r.userId = :userId and r.postId in :postIds")
+	List<Integer> findPostIdsByUserId(@Param("userId") Integer userId, @Param("postIds") Collection<Integer> postIds);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM post_reaction WHERE post_id IN (:postIds)", nativeQuery = true)
+	int deleteByPostIds(@Param("postIds") List<Integer> postIds);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM post_reaction WHERE post_id IN (SELECT id FROM post WHERE community_id = :communityId) LIMIT :limit",
+		nativeQuery = true)
+	int deleteChunkByCommunityId(@Param("communityId") Integer communityId, @Param("limit") int limit);
+}
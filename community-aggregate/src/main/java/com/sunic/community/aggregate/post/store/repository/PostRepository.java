@@ -1,13 +1,62 @@
 package com.sunic.community.aggregate.post.store.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.sunic.community.aggregate.post.store.jpo.PostJpo;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface PostRepository extends JpaRepository<PostJpo, Integer> {
-	List<PostJpo> findByCommunityIdOrderByRegisteredTimeDesc(Integer communityId);
-}
\ No newline at end of file
+	@Query("select p from PostJpo p left join fetch p.comments where p.community.id = :communityId "
+		+ "order by p.registeredTime desc")
+	List<PostJpo> findWithCommentsByCommunityId(@Param("communityId") Integer communityId);
+
+	@Query("select p from PostJpo p where p.community.id = :communityId order by p.registeredTime desc, p.id desc")
+	List<PostJpo> findRecentByCommunityId(@Param("communityId") Integer communityId, Pageable pageable);
+
+	@Query("select p from PostJpo p where p.community.id = :communityId "
+		+ "and (p.registeredTime < :registeredTime or (p.registeredTime = :registeredTime and p.id < :id)) "
+		+ "order by p.registeredTime desc, p.id desc")
+	List<PostJpo> findRecentByCommunityIdBefore(@Param("communityId") Integer communityId,
+		@Param("registeredTime") Long registeredTime, @Param("id") Integer id, Pageable pageable);
+
+	@Query("select p from PostJpo p left join fetch p.comments where p.id in :ids")
+	List<PostJpo> findAllWithCommentsByIdIn(@Param("ids") Collection<Integer> ids);
+
+	/**
+	 * Loads the post if it is not deleted and share-locks its row, so it cannot be marked deleted until the
+	 * calling transaction ends.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("select p from PostJpo p where p.id = :id")
+	Optional<PostJpo> lockLiveById(@Param("id") Integer id);
+
+	@Modifying
+	@Query("update PostJpo p set p.deletedTime = :deletedTime where p.id = :id and p.deletedTime is null")
+	int markDeleted(@Param("id") Integer id, @Param("deletedTime") Long deletedTime);
+
+	@Query(value = "SELECT id FROM post WHERE deleted_time IS NOT NULL LIMIT :limit", nativeQuery = true)
+	List<Integer> findDeletedIds(@Param("limit") int limit);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM post WHERE id IN (:ids) AND deleted_time IS NOT NULL", nativeQuery = true)
+	int purgeByIds(@Param("ids") List<Integer> ids);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM post WHERE community_id = :communityId LIMIT :limit", nativeQuery = true)
+	int deleteChunkByCommunityId(@Param("communityId") Integer communityId, @Param("limit") int limit);
+}
@@ -0,0 +1,26 @@
+package com.sunic.community.aggregate.post.store.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sunic.community.aggregate.post.store.jpo.PostStatsJpo;
+
+@Repository
+public interface PostStatsRepository extends JpaRepository<PostStatsJpo, Integer> {
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM post_stats WHERE post_id IN (:postIds)", nativeQuery = true)
+	int deleteByPostIds(@Param("postIds") List<Integer> postIds);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM post_stats WHERE post_id IN (SELECT id FROM post WHERE community_id = :communityId) LIMIT :limit",
+		nativeQuery = true)
+	int deleteChunkByCommunityId(@Param("communityId") Integer communityId, @Param("limit") int limit);
+}
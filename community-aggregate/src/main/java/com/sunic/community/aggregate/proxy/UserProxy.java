@@ -4,9 +4,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.sunic.community.aggregate.config.jfr.UserServiceCallEvent;
 import com.sunic.community.spec.common.ApiResponse;
 import com.sunic.community.spec.common.exception.UnauthorizedException;
+import com.sunic.community.spec.common.timing.RequestTimings;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 public class UserProxy {
 
     private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
 
     @Value("${user.client.base-url:http://localhost:8080}")
     private String userServiceBaseUrl;
@@ -45,20 +50,7 @@ public class UserProxy {
      * @return true if user is valid, false otherwise
      */
     private boolean checkUser(Integer userId) {
-        try {
-            ApiResponse<Boolean> response = webClient
-                .get()
-                .uri(userServiceBaseUrl + "/user/client/check/{userId}", userId)
-                .retrieve()
-                .bodyToMono(ApiResponse.class)
-                .cast(ApiResponse.class)
-                .block();
-
-            return response != null && response.isSuccess() && Boolean.TRUE.equals(response.getData());
-        } catch (Exception e) {
-            log.error("Failed to check user validity for userId: {}", userId, e);
-            return false;
-        }
+        return timedCheck("user", "/user/client/check/{userId}", userId);
     }
 
     /**
@@ -68,19 +60,49 @@ public class UserProxy {
      * @return true if user is admin, false otherwise
      */
     private boolean checkUserIsAdmin(Integer userId) {
+        return timedCheck("admin", "/user/client/checkAdmin/{userId}", userId);
+    }
+
+    /**
+     * Calls the user service, timing the call by check and outcome (valid, invalid or error)
+     * and counting failures by exception type.
+     */
+    private boolean timedCheck(String check, String path, Integer userId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        UserServiceCallEvent event = new UserServiceCallEvent();
+        event.begin();
+        String outcome = "error";
         try {
             ApiResponse<Boolean> response = webClient
                 .get()
-                .uri(userServiceBaseUrl + "/user/client/checkAdmin/{userId}", userId)
+                .uri(userServiceBaseUrl + path, userId)
                 .retrieve()
                 .bodyToMono(ApiResponse.class)
                 .cast(ApiResponse.class)
                 .block();
 
-            return response != null && response.isSuccess() && Boolean.TRUE.equals(response.getData());
+            boolean valid = response != null && response.isSuccess() && Boolean.TRUE.equals(response.getData());
+            outcome = valid ? "valid" : "invalid";
+            return valid;
         } catch (Exception e) {
-            log.error("Failed to check admin status for userId: {}", userId, e);
+            log.error("Failed to run {} check for userId: {}", check, userId, e);
+            meterRegistry.counter("community.user.check.errors",
+                "check", check, "exception", e.getClass().getSimpleName()).increment();
             return false;
+        } finally {
+            long elapsed = sample.stop(Timer.builder("community.user.check")
+                .tag("check", check)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+            RequestTimings.add(RequestTimings.Phase.USER_SERVICE, elapsed);
+            event.end();
+            if (event.shouldCommit()) {
+                event.check = check;
+                event.userId = userId == null ? 0 : userId;
+                event.outcome = outcome;
+                event.commit();
+            }
         }
     }
 }
\ No newline at end of file
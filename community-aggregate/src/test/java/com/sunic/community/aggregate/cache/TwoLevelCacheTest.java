@@ -0,0 +1,208 @@
+package com.sunic.community.aggregate.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import redis.embedded.RedisServer;
+
+class TwoLevelCacheTest {
+
+	private static final String NAME = "post";
+	private static final long REDELETE_DELAY_MS = 300;
+	private static final AtomicInteger KEYS = new AtomicInteger();
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private RedisMessageListenerContainer listenerContainerA;
+	private RedisMessageListenerContainer listenerContainerB;
+	private TwoLevelCache nodeA;
+	private TwoLevelCache nodeB;
+	// A fresh key per test, so a delayed second delete from an earlier test cannot interfere.
+	private int key;
+	private String cacheKey;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		key = KEYS.incrementAndGet();
+		cacheKey = NAME + ":" + key;
+		nodeA = node();
+		nodeB = node();
+		listenerContainerA = subscribe(nodeA);
+		listenerContainerB = subscribe(nodeB);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		listenerContainerA.destroy();
+		listenerContainerB.destroy();
+		nodeA.shutdown();
+		nodeB.shutdown();
+	}
+
+	@Test
+	void l2HitServesAnotherNodeWithoutLoading() {
+		AtomicInteger loads = new AtomicInteger();
+
+		Item loaded = nodeA.get(NAME, key, Item.class, () -> load(loads, key, "first"));
+		Item shared = nodeB.get(NAME, key, Item.class, () -> load(loads, key, "second"));
+
+		assertThat(loaded.name()).isEqualTo("first");
+		assertThat(shared.name()).isEqualTo("first");
+		assertThat(loads).hasValue(1);
+		assertThat(redisTemplate.hasKey(cacheKey)).isTrue();
+	}
+
+	@Test
+	void evictionWaitsForTheTransactionToCommit() {
+		nodeA.get(NAME, key, Item.class, () -> new Item(key, "first"));
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			nodeA.evict(NAME, key);
+			assertThat(redisTemplate.hasKey(cacheKey)).isTrue();
+
+			TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(redisTemplate.hasKey(cacheKey)).isFalse();
+		assertThat(nodeA.get(NAME, key, Item.class, () -> new Item(key, "second")).name()).isEqualTo("second");
+	}
+
+	@Test
+	void evictionIsDroppedWhenTheTransactionRollsBack() {
+		nodeA.get(NAME, key, Item.class, () -> new Item(key, "first"));
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			nodeA.evict(NAME, key);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(redisTemplate.hasKey(cacheKey)).isTrue();
+	}
+
+	@Test
+	void evictionOnOneNodeInvalidatesTheLocalCopyOnOthers() {
+		nodeA.get(NAME, key, Item.class, () -> new Item(key, "first"));
+		nodeB.get(NAME, key, Item.class, () -> new Item(key, "first"));
+
+		nodeA.evict(NAME, key);
+
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+			assertThat(nodeB.get(NAME, key, Item.class, () -> new Item(key, "second")).name()).isEqualTo("second"));
+	}
+
+	@Test
+	void loadRacingAnEvictionOfItsKeyIsNotCached() {
+		AtomicInteger loads = new AtomicInteger();
+
+		nodeA.get(NAME, key, Item.class, () -> {
+			nodeA.evict(NAME, key);
+			return load(loads, key, "stale");
+		});
+
+		assertThat(redisTemplate.hasKey(cacheKey)).isFalse();
+		assertThat(nodeA.get(NAME, key, Item.class, () -> load(loads, key, "fresh")).name()).isEqualTo("fresh");
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void loadRacingAnEvictionOfAnUnrelatedKeyIsStillCached() {
+		AtomicInteger loads = new AtomicInteger();
+		int otherKey = key + 1;
+		while (TwoLevelCache.stripe(NAME + ":" + otherKey) == TwoLevelCache.stripe(cacheKey)) {
+			otherKey++;
+		}
+		int unrelated = otherKey;
+
+		nodeA.get(NAME, key, Item.class, () -> {
+			nodeA.evict(NAME, unrelated);
+			return load(loads, key, "first");
+		});
+
+		assertThat(redisTemplate.hasKey(cacheKey)).isTrue();
+		assertThat(nodeA.get(NAME, key, Item.class, () -> load(loads, key, "second")).name()).isEqualTo("first");
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void staleFillRacingAnEvictionIsDeletedAgainAfterTheDelay() throws Exception {
+		nodeA.evict(NAME, key);
+		// A node that loaded the pre-write row from a lagging replica writes it back after the first delete.
+		redisTemplate.opsForValue().set(cacheKey, objectMapper.writeValueAsString(new Item(key, "stale")));
+
+		await().atMost(Duration.ofMillis(REDELETE_DELAY_MS * 10)).until(() -> !redisTemplate.hasKey(cacheKey));
+		assertThat(nodeB.get(NAME, key, Item.class, () -> new Item(key, "fresh")).name()).isEqualTo("fresh");
+	}
+
+	private TwoLevelCache node() {
+		return new TwoLevelCache(redisTemplate, objectMapper, true, 100, 60_000, 60_000, REDELETE_DELAY_MS, 1);
+	}
+
+	private static RedisMessageListenerContainer subscribe(TwoLevelCache cache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(
+			(message, pattern) -> cache.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(TwoLevelCache.INVALIDATION_CHANNEL));
+		container.afterPropertiesSet();
+		container.start();
+		return container;
+	}
+
+	private static Item load(AtomicInteger loads, int id, String name) {
+		loads.incrementAndGet();
+		return new Item(id, name);
+	}
+
+	record Item(Integer id, String name) {
+	}
+}
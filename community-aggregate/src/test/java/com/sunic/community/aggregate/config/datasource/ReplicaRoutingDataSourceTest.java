@@ -0,0 +1,140 @@
+package com.sunic.community.aggregate.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class ReplicaRoutingDataSourceTest {
+
+	private HikariDataSource primary;
+	private HikariDataSource replica;
+
+	@BeforeEach
+	void setUp() {
+		primary = pool("primary");
+		replica = pool("replica");
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReadYourWritesContext.close();
+		primary.close();
+		replica.close();
+	}
+
+	@Test
+	void readOnlyTransactionsUseTheReplica() {
+		Router router = router(usableMonitor());
+
+		assertThat(router.read()).isEqualTo("replica");
+	}
+
+	@Test
+	void writeTransactionsUseThePrimary() {
+		Router router = router(usableMonitor());
+
+		assertThat(router.write()).isEqualTo("primary");
+	}
+
+	@Test
+	void readsFallBackToThePrimaryWhenTheLagCheckFails() {
+		// H2 has no SHOW REPLICA STATUS, so the check fails like an unreachable replica would.
+		ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, 5, true);
+		monitor.check();
+		Router router = router(monitor);
+
+		assertThat(monitor.isReplicaUsable()).isFalse();
+		assertThat(router.read()).isEqualTo("primary");
+	}
+
+	@Test
+	void readsAfterAWriteInTheSameRequestUseThePrimary() {
+		Router router = router(usableMonitor());
+		ReadYourWritesContext.open(null);
+
+		router.write();
+
+		assertThat(ReadYourWritesContext.hasWritten()).isTrue();
+		assertThat(router.read()).isEqualTo("primary");
+	}
+
+	@Test
+	void readsWithinThePrimaryUntilWindowUseThePrimary() {
+		Router router = router(usableMonitor());
+		ReadYourWritesContext.open(System.currentTimeMillis() + 60_000);
+
+		assertThat(router.read()).isEqualTo("primary");
+	}
+
+	@Test
+	void readsAfterThePrimaryUntilWindowUseTheReplica() {
+		Router router = router(usableMonitor());
+		ReadYourWritesContext.open(System.currentTimeMillis() - 1);
+
+		assertThat(router.read()).isEqualTo("replica");
+	}
+
+	private ReplicaLagMonitor usableMonitor() {
+		return new ReplicaLagMonitor(replica, 5, false);
+	}
+
+	private Router router(ReplicaLagMonitor monitor) {
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(monitor);
+		routing.setTargetDataSources(Map.of(
+			ReplicaRoutingDataSource.Route.PRIMARY, primary,
+			ReplicaRoutingDataSource.Route.REPLICA, replica));
+		routing.setDefaultTargetDataSource(primary);
+		routing.afterPropertiesSet();
+		return new Router(new LazyConnectionDataSourceProxy(routing));
+	}
+
+	private static HikariDataSource pool(String name) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName(name);
+		dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+		dataSource.setMaximumPoolSize(2);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+		jdbcTemplate.execute("DELETE FROM node");
+		jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+		return dataSource;
+	}
+
+	private static final class Router {
+		private final JdbcTemplate jdbcTemplate;
+		private final TransactionTemplate readOnly;
+		private final TransactionTemplate readWrite;
+
+		private Router(DataSource dataSource) {
+			this.jdbcTemplate = new JdbcTemplate(dataSource);
+			DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+			this.readOnly = new TransactionTemplate(transactionManager);
+			this.readOnly.setReadOnly(true);
+			this.readWrite = new TransactionTemplate(transactionManager);
+		}
+
+		String read() {
+			return readOnly.execute(status -> currentNode());
+		}
+
+		String write() {
+			return readWrite.execute(status -> currentNode());
+		}
+
+		private String currentNode() {
+			return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+		}
+	}
+}
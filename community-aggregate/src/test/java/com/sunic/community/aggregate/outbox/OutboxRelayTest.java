@@ -0,0 +1,115 @@
+package com.sunic.community.aggregate.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sunic.community.aggregate.outbox.jpo.OutboxEventJpo;
+import com.sunic.community.aggregate.outbox.repository.OutboxEventRepository;
+import com.sunic.community.spec.common.event.DomainEventType;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+	private static final int BATCH_SIZE = 2;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final InMemoryOutboxSink delivered = new InMemoryOutboxSink();
+	private final AtomicInteger failuresLeft = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		outboxEventRepository.deleteAll();
+		delivered.clear();
+	}
+
+	@Test
+	void relaysEveryEventInIdOrderAcrossBatches() {
+		List<Long> ids = append(5);
+
+		relay().relay();
+
+		assertThat(deliveredIds()).containsExactlyElementsOf(ids);
+		assertThat(outboxEventRepository.findAll()).allMatch(event -> event.getPublishedTime() != null);
+	}
+
+	@Test
+	void failingSinkRollsTheBatchBackAndItIsRedelivered() {
+		List<Long> ids = append(3);
+		failuresLeft.set(1);
+		OutboxRelay relay = relay();
+
+		relay.relay();
+
+		assertThat(deliveredIds()).isEmpty();
+		assertThat(outboxEventRepository.findAll()).allMatch(event -> event.getPublishedTime() == null);
+
+		relay.relay();
+
+		assertThat(deliveredIds()).containsExactlyElementsOf(ids);
+		assertThat(outboxEventRepository.findAll()).allMatch(event -> event.getPublishedTime() != null);
+	}
+
+	@Test
+	void publishedEventsAreNotDeliveredAgain() {
+		List<Long> ids = append(3);
+		OutboxRelay relay = relay();
+
+		relay.relay();
+		relay.relay();
+
+		assertThat(deliveredIds()).containsExactlyElementsOf(ids);
+	}
+
+	private OutboxRelay relay() {
+		OutboxSink flakySink = events -> {
+			if (failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+				throw new IllegalStateException("Sink unavailable");
+			}
+			delivered.publish(events);
+		};
+		OutboxRelay relay = new OutboxRelay(outboxEventRepository, flakySink, transactionManager);
+		ReflectionTestUtils.setField(relay, "batchSize", BATCH_SIZE);
+		return relay;
+	}
+
+	private List<Long> append(int count) {
+		return IntStream.rangeClosed(1, count)
+			.mapToObj(aggregateId -> outboxEventRepository.save(OutboxEventJpo.builder()
+				.eventType(DomainEventType.POST_CREATED)
+				.aggregateType(DomainEventType.POST_CREATED.getAggregateType())
+				.aggregateId(aggregateId)
+				.payload("{}")
+				.occurredTime(System.currentTimeMillis())
+				.build()).getId())
+			.toList();
+	}
+
+	private List<Long> deliveredIds() {
+		return delivered.getEvents().stream().map(OutboxEvent::getId).toList();
+	}
+
+	@SpringBootConfiguration
+	@AutoConfigurationPackage
+	static class TestConfig {
+	}
+}
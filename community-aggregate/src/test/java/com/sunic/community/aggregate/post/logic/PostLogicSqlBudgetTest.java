@@ -0,0 +1,218 @@
+package com.sunic.community.aggregate.post.logic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sunic.community.aggregate.cache.TwoLevelCache;
+import com.sunic.community.aggregate.community.store.MemberStore;
+import com.sunic.community.aggregate.community.store.jpo.CommunityJpo;
+import com.sunic.community.aggregate.community.store.jpo.MemberJpo;
+import com.sunic.community.aggregate.community.store.repository.CommunityRepository;
+import com.sunic.community.aggregate.community.store.repository.MemberRepository;
+import com.sunic.community.aggregate.config.datasource.PrimaryReads;
+import com.sunic.community.aggregate.config.querydsl.QuerydslConfig;
+import com.sunic.community.aggregate.config.sql.SqlStatementTracker;
+import com.sunic.community.aggregate.outbox.OutboxStore;
+import com.sunic.community.aggregate.post.store.CommentStore;
+import com.sunic.community.aggregate.post.store.CommentWriteBehindQueue;
+import com.sunic.community.aggregate.post.store.PostReactionStore;
+import com.sunic.community.aggregate.post.store.PostStore;
+import com.sunic.community.aggregate.post.store.PostViewCounter;
+import com.sunic.community.aggregate.post.store.RecentPostCache;
+import com.sunic.community.aggregate.post.store.jpo.CommentJpo;
+import com.sunic.community.aggregate.post.store.jpo.PostJpo;
+import com.sunic.community.aggregate.post.store.jpo.PostTypeJpo;
+import com.sunic.community.aggregate.post.store.repository.CommentRepository;
+import com.sunic.community.aggregate.post.store.repository.PostRepository;
+import com.sunic.community.aggregate.proxy.UserProxy;
+import com.sunic.community.spec.community.entity.CommunityType;
+import com.sunic.community.spec.post.facade.sdo.PostFeedRdo;
+import com.sunic.community.spec.post.facade.sdo.PostRdo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Statement counts of the post read endpoints, measured with {@link SqlStatementTracker}. The budgets under
+ * {@code community.sql-budget.endpoints} are the largest count asserted here for each endpoint, so a change that
+ * raises a count has to raise the budget with it.
+ * <p>
+ * Posts are read with the caches off, except the recent-post buffers, whose cold and warm costs are both shown.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session.events.auto="
+	+ "com.sunic.community.aggregate.config.sql.SqlStatementListener")
+@Import({PostLogic.class, PostStore.class, CommentStore.class, MemberStore.class, PostViewCounter.class,
+	PostReactionStore.class, CommentWriteBehindQueue.class, OutboxStore.class, RecentPostCache.class,
+	TwoLevelCache.class, PrimaryReads.class, QuerydslConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostLogicSqlBudgetTest {
+
+	private static final int USER_ID = 7;
+	private static final int POSTS_PER_COMMUNITY = 3;
+	private static final int COMMENTS_PER_POST = 2;
+	private static final Set<String> ALL_FIELDS = Set.of("title", "content", "comments", "viewCount");
+
+	@Autowired
+	private PostLogic postLogic;
+
+	@Autowired
+	private CommunityRepository communityRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private UserProxy userProxy;
+
+	@MockitoBean
+	private StringRedisTemplate redisTemplate;
+
+	private List<Integer> communityIds;
+	private List<Integer> postIds;
+
+	@BeforeEach
+	void setUp() {
+		JdbcTestUtils.deleteFromTables(jdbcTemplate, "comment", "post_stats", "member", "post", "community");
+		communityIds = IntStream.range(0, 3).mapToObj(i -> community()).toList();
+		postIds = posts(communityIds.get(0));
+		communityIds.stream().skip(1).forEach(this::posts);
+		communityIds.forEach(this::join);
+	}
+
+	@Test
+	void getPostLoadsThePostItsCommentsAndItsViewCount() {
+		assertThat(statements(() -> postLogic.getPost(postIds.get(0)))).isEqualTo(3);
+	}
+
+	@Test
+	void getPostsLoadsPostsWithCommentsInOneQueryAndViewCountsInAnother() {
+		assertThat(statements(() -> postLogic.getPosts(postIds))).isEqualTo(2);
+	}
+
+	@Test
+	void getPostsWithFieldsLoadsColumnsCommentsAndViewCountsInAQueryEach() {
+		assertThat(statements(() -> postLogic.getPosts(postIds, Set.of("title")))).isEqualTo(1);
+		assertThat(statements(() -> postLogic.getPosts(postIds, ALL_FIELDS))).isEqualTo(3);
+	}
+
+	@Test
+	void getPostsByCommunityLoadsCommentsWithThePosts() {
+		List<PostRdo> posts = postLogic.getPostsByCommunity(communityIds.get(0));
+
+		assertThat(posts).hasSize(POSTS_PER_COMMUNITY)
+			.allSatisfy(post -> assertThat(post.getComments()).hasSize(COMMENTS_PER_POST));
+		assertThat(statements(() -> postLogic.getPostsByCommunity(communityIds.get(0)))).isEqualTo(2);
+	}
+
+	@Test
+	void getPostsByCommunityWithFieldsLoadsColumnsCommentsAndViewCountsInAQueryEach() {
+		Integer communityId = communityIds.get(0);
+
+		assertThat(statements(() -> postLogic.getPostsByCommunity(communityId, Set.of("title")))).isEqualTo(1);
+		assertThat(statements(() -> postLogic.getPostsByCommunity(communityId, ALL_FIELDS))).isEqualTo(3);
+	}
+
+	@Test
+	void getPostsByCommunityPageIsServedFromTheRecentPostBufferOnceLoaded() {
+		Integer communityId = communityIds.get(0);
+
+		assertThat(statements(() -> postLogic.getPostsByCommunity(communityId, null, 20))).isEqualTo(1);
+		assertThat(statements(() -> postLogic.getPostsByCommunity(communityId, null, 20))).isZero();
+	}
+
+	@Test
+	void getFeedLoadsMembershipsAndEachColdRecentPostBuffer() {
+		PostFeedRdo[] feed = new PostFeedRdo[1];
+
+		assertThat(statements(() -> feed[0] = postLogic.getFeed(USER_ID, null, 20)))
+			.isEqualTo(1 + communityIds.size());
+		assertThat(feed[0].getPosts()).hasSize(POSTS_PER_COMMUNITY * communityIds.size());
+		assertThat(statements(() -> postLogic.getFeed(USER_ID, null, 20))).isEqualTo(1);
+	}
+
+	private static int statements(Runnable action) {
+		return SqlStatementTracker.measure(action).getStatementCount();
+	}
+
+	private Integer community() {
+		return communityRepository.save(CommunityJpo.builder()
+			.type(CommunityType.OPEN)
+			.name("community")
+			.memberCount(0L)
+			.registeredTime(System.currentTimeMillis())
+			.registrant(USER_ID)
+			.build()).getId();
+	}
+
+	private void join(Integer communityId) {
+		memberRepository.save(MemberJpo.builder()
+			.community(communityRepository.getReferenceById(communityId))
+			.userId(USER_ID)
+			.joinedTime(System.currentTimeMillis())
+			.registrant(USER_ID)
+			.build());
+	}
+
+	private List<Integer> posts(Integer communityId) {
+		return IntStream.range(0, POSTS_PER_COMMUNITY).mapToObj(i -> {
+			PostJpo post = postRepository.save(PostJpo.builder()
+				.title("title " + i)
+				.content("content " + i)
+				.postType(PostTypeJpo.POST)
+				.community(communityRepository.getReferenceById(communityId))
+				.registeredTime(System.currentTimeMillis() + i)
+				.registrant(USER_ID)
+				.build());
+			IntStream.range(0, COMMENTS_PER_POST).forEach(j -> commentRepository.save(CommentJpo.builder()
+				.content("comment " + j)
+				.post(post)
+				.registeredTime(System.currentTimeMillis() + j)
+				.registrant(USER_ID)
+				.build()));
+			return post.getId();
+		}).toList();
+	}
+
+	@SpringBootConfiguration
+	@AutoConfigurationPackage(basePackages = "com.sunic.community.aggregate")
+	static class TestConfig {
+
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper();
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.sunic.community.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.BeanUtils;
+
+import com.sunic.community.spec.community.entity.Community;
+import com.sunic.community.spec.community.entity.CommunityType;
+import com.sunic.community.spec.community.facade.sdo.CommunityUdo;
+
+/**
+ * {@link Community#modify} against the reflective {@link BeanUtils#copyProperties} it replaced,
+ * for growing description sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommunityModifyBenchmark {
+
+	@Param({"64", "4096"})
+	private int payloadSize;
+
+	private CommunityUdo udo;
+
+	@Setup
+	public void setUp() {
+		udo = CommunityUdo.builder()
+			.id(1)
+			.type(CommunityType.OPEN)
+			.thumbnail("thumbnail.png")
+			.name("community")
+			.description(Fixtures.text(payloadSize))
+			.modifier(7)
+			.build();
+	}
+
+	@Benchmark
+	public Community modify() {
+		Community community = newCommunity();
+		community.modify(udo);
+		return community;
+	}
+
+	@Benchmark
+	public Community modifyWithBeanUtils() {
+		Community community = newCommunity();
+		community.setModifiedTime(System.currentTimeMillis());
+		BeanUtils.copyProperties(udo, community);
+		return community;
+	}
+
+	private static Community newCommunity() {
+		return Community.builder()
+			.id(1)
+			.type(CommunityType.CLOSE)
+			.name("before")
+			.memberCount(10L)
+			.build();
+	}
+}
@@ -0,0 +1,83 @@
+package com.sunic.community.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sunic.community.aggregate.community.store.jpo.CommunityJpo;
+import com.sunic.community.aggregate.post.store.jpo.CommentJpo;
+import com.sunic.community.aggregate.post.store.jpo.PostJpo;
+import com.sunic.community.aggregate.post.store.jpo.PostTypeJpo;
+import com.sunic.community.spec.post.entity.Comment;
+import com.sunic.community.spec.post.entity.Post;
+import com.sunic.community.spec.post.entity.PostType;
+
+/**
+ * Builds posts with a given number of comments, whose post and comment bodies are {@code payloadSize} characters.
+ */
+final class Fixtures {
+
+	private static final long NOW = 1_700_000_000_000L;
+
+	private Fixtures() {
+	}
+
+	static String text(int length) {
+		return "x".repeat(length);
+	}
+
+	static Post post(int id, int commentCount, int payloadSize) {
+		List<Comment> comments = new ArrayList<>(commentCount);
+		for (int i = 0; i < commentCount; i++) {
+			comments.add(Comment.builder()
+				.id(id * 1000 + i)
+				.content(text(payloadSize))
+				.postId(id)
+				.registeredTime(NOW + i)
+				.registrant(i)
+				.modifiedTime(NOW + i)
+				.modifier(i)
+				.build());
+		}
+		return Post.builder()
+			.id(id)
+			.title("title " + id)
+			.content(text(payloadSize))
+			.postType(PostType.POST)
+			.communityId(1)
+			.comments(comments)
+			.registeredTime(NOW)
+			.registrant(7)
+			.modifiedTime(NOW)
+			.modifier(7)
+			.build();
+	}
+
+	static PostJpo postJpo(int id, int commentCount, int payloadSize) {
+		List<CommentJpo> comments = new ArrayList<>(commentCount);
+		PostJpo jpo = PostJpo.builder()
+			.id(id)
+			.title("title " + id)
+			.content(text(payloadSize))
+			.postType(PostTypeJpo.POST)
+			.community(CommunityJpo.builder().id(1).build())
+			.comments(comments)
+			.registeredTime(NOW)
+			.registrant(7)
+			.modifiedTime(NOW)
+			.modifier(7)
+			.build();
+		for (int i = 0; i < commentCount; i++) {
+			CommentJpo comment = CommentJpo.builder()
+				.id(id * 1000 + i)
+				.content(text(payloadSize))
+				.registeredTime(NOW + i)
+				.registrant(i)
+				.modifiedTime(NOW + i)
+				.modifier(i)
+				.build();
+			comment.setPost(jpo);
+			comments.add(comment);
+		}
+		return jpo;
+	}
+}
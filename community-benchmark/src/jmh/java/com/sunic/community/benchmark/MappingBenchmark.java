@@ -0,0 +1,94 @@
+package com.sunic.community.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.sunic.community.spec.post.entity.Comment;
+import com.sunic.community.spec.post.entity.Post;
+import com.sunic.community.spec.post.entity.PostType;
+import com.sunic.community.spec.post.facade.sdo.CommentRdo;
+import com.sunic.community.spec.post.facade.sdo.PostRdo;
+
+/**
+ * Compares the generated post mapper against the hand-written mapping it replaced; the community modify mapper
+ * is covered by {@link CommunityModifyBenchmark}.
+ * Run with {@code ./gradlew :community-benchmark:jmh}; the gc profiler reports allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+	private Post post;
+
+	@Setup
+	public void setUp() {
+		List<Comment> comments = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			comments.add(Comment.builder()
+				.id(i)
+				.content("comment " + i)
+				.postId(1)
+				.registeredTime(System.currentTimeMillis())
+				.registrant(i)
+				.modifiedTime(System.currentTimeMillis())
+				.modifier(i)
+				.build());
+		}
+		post = Post.builder()
+			.id(1)
+			.title("title")
+			.content("content")
+			.postType(PostType.POST)
+			.communityId(1)
+			.comments(comments)
+			.registeredTime(System.currentTimeMillis())
+			.registrant(7)
+			.modifiedTime(System.currentTimeMillis())
+			.modifier(7)
+			.build();
+	}
+
+	@Benchmark
+	public PostRdo postToRdoHandWritten() {
+		return PostRdo.builder()
+			.id(post.getId())
+			.title(post.getTitle())
+			.content(post.getContent())
+			.postType(post.getPostType())
+			.communityId(post.getCommunityId())
+			.comments(post.getComments().stream().map(MappingBenchmark::commentToRdo).collect(Collectors.toList()))
+			.registeredTime(post.getRegisteredTime())
+			.registrant(post.getRegistrant())
+			.modifiedTime(post.getModifiedTime())
+			.modifier(post.getModifier())
+			.build();
+	}
+
+	@Benchmark
+	public PostRdo postToRdoWithGeneratedMapper() {
+		return post.toRdo();
+	}
+
+	private static CommentRdo commentToRdo(Comment comment) {
+		return CommentRdo.builder()
+			.id(comment.getId())
+			.content(comment.getContent())
+			.postId(comment.getPostId())
+			.registeredTime(comment.getRegisteredTime())
+			.registrant(comment.getRegistrant())
+			.modifiedTime(comment.getModifiedTime())
+			.modifier(comment.getModifier())
+			.build();
+	}
+}
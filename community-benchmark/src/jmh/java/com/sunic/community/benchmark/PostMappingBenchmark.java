@@ -0,0 +1,50 @@
+package com.sunic.community.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.sunic.community.aggregate.post.store.jpo.PostJpo;
+import com.sunic.community.spec.post.entity.Post;
+import com.sunic.community.spec.post.facade.sdo.PostRdo;
+
+/**
+ * Cost of the two mapping steps every post read goes through: entity to domain and domain to response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostMappingBenchmark {
+
+	@Param({"0", "10", "100"})
+	private int commentCount;
+
+	@Param({"64", "4096"})
+	private int payloadSize;
+
+	private PostJpo postJpo;
+	private Post post;
+
+	@Setup
+	public void setUp() {
+		postJpo = Fixtures.postJpo(1, commentCount, payloadSize);
+		post = Fixtures.post(1, commentCount, payloadSize);
+	}
+
+	@Benchmark
+	public Post postJpoToDomain() {
+		return postJpo.toDomain();
+	}
+
+	@Benchmark
+	public PostRdo postToRdo() {
+		return post.toRdo();
+	}
+}
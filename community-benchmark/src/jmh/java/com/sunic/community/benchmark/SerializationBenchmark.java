@@ -0,0 +1,56 @@
+package com.sunic.community.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sunic.community.spec.common.ApiResponse;
+import com.sunic.community.spec.post.entity.Post;
+import com.sunic.community.spec.post.facade.sdo.PostRdo;
+
+/**
+ * Jackson serialization of a post list response, the body written by {@code GET /api/v1/posts}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+	@Param({"20"})
+	private int postCount;
+
+	@Param({"0", "10", "100"})
+	private int commentCount;
+
+	@Param({"64", "4096"})
+	private int payloadSize;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private ApiResponse<List<PostRdo>> response;
+
+	@Setup
+	public void setUp() {
+		List<PostRdo> posts = IntStream.range(0, postCount)
+			.mapToObj(id -> Fixtures.post(id, commentCount, payloadSize))
+			.map(Post::toRdo)
+			.collect(Collectors.toList());
+		response = ApiResponse.success("Posts retrieved successfully", posts);
+	}
+
+	@Benchmark
+	public byte[] serializePostList() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(response);
+	}
+}
@@ -0,0 +1,69 @@
+package com.sunic.community.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.sunic.community.spec.community.facade.sdo.MemberJoinCdo;
+import com.sunic.community.spec.post.facade.sdo.CommentCdo;
+
+/**
+ * Seeds the database under test through the public API, so the seeded rows go through the same code paths
+ * as production writes.
+ */
+class ApiSeeder {
+
+	private final CommunityClient client;
+	private final WorkloadState state;
+
+	ApiSeeder(CommunityClient client, WorkloadState state) {
+		this.client = client;
+		this.state = state;
+	}
+
+	void seed(int communities, int membershipsPerUser, int posts, int commentsPerPost) throws Exception {
+		for (int i = 0; i < communities; i++) {
+			CommunityClient.Response response = Workload.registerCommunity(client, state);
+			state.communityIds.add(response.dataId());
+		}
+		state.createdCommunityIds.clear();
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+			List<Future<?>> tasks = new ArrayList<>();
+			for (int userId = 1; userId <= state.userCount; userId++) {
+				int user = userId;
+				tasks.add(executor.submit(() -> {
+					for (int i = 0; i < membershipsPerUser; i++) {
+						int communityId = state.randomCommunity();
+						if (state.claimMembership(communityId, user)) {
+							client.post("/api/v1/communities/" + communityId + "/members",
+								MemberJoinCdo.builder().userId(user).registrant(user).secretNumber("0000").build());
+						}
+					}
+					return null;
+				}));
+			}
+			for (int i = 0; i < posts; i++) {
+				tasks.add(executor.submit(() -> {
+					CommunityClient.Response response = Workload.createPost(client, state);
+					Integer postId = response.dataId();
+					for (int c = 0; c < commentsPerPost; c++) {
+						client.post("/api/v1/posts/" + postId + "/comments", CommentCdo.builder()
+							.content(Workload.text(ThreadLocalRandom.current().nextInt(20, 200)))
+							.registrant(state.randomUser())
+							.build());
+					}
+					state.postIds.add(postId);
+					return null;
+				}));
+			}
+			for (Future<?> task : tasks) {
+				task.get();
+			}
+		}
+		state.createdPostIds.clear();
+	}
+}
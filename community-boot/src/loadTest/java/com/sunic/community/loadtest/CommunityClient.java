@@ -0,0 +1,70 @@
+package com.sunic.community.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Thin blocking JSON client for the community API under test.
+ */
+class CommunityClient {
+
+	record Response(int status, JsonNode body) {
+		boolean isSuccess() {
+			return status >= 200 && status < 300;
+		}
+
+		Integer dataId() {
+			JsonNode id = body == null ? null : body.path("data").path("id");
+			return id == null || id.isMissingNode() || id.isNull() ? null : id.asInt();
+		}
+	}
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(Duration.ofSeconds(5))
+		.build();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final String baseUrl;
+
+	CommunityClient(String baseUrl) {
+		this.baseUrl = baseUrl;
+	}
+
+	Response get(String path) throws IOException, InterruptedException {
+		return send(HttpRequest.newBuilder(uri(path)).GET());
+	}
+
+	Response delete(String path) throws IOException, InterruptedException {
+		return send(HttpRequest.newBuilder(uri(path)).DELETE());
+	}
+
+	Response post(String path, Object body) throws IOException, InterruptedException {
+		return send(HttpRequest.newBuilder(uri(path)).POST(json(body)).header("Content-Type", "application/json"));
+	}
+
+	Response put(String path, Object body) throws IOException, InterruptedException {
+		return send(HttpRequest.newBuilder(uri(path)).PUT(json(body)).header("Content-Type", "application/json"));
+	}
+
+	private Response send(HttpRequest.Builder request) throws IOException, InterruptedException {
+		HttpResponse<byte[]> response = httpClient.send(request.timeout(Duration.ofSeconds(30)).build(),
+			HttpResponse.BodyHandlers.ofByteArray());
+		JsonNode body = response.body().length == 0 ? null : objectMapper.readTree(response.body());
+		return new Response(response.statusCode(), body);
+	}
+
+	private HttpRequest.BodyPublisher json(Object body) throws IOException {
+		return HttpRequest.BodyPublishers.ofByteArray(body == null ? new byte[0] : objectMapper.writeValueAsBytes(body));
+	}
+
+	private URI uri(String path) {
+		return URI.create(baseUrl + path);
+	}
+}
@@ -0,0 +1,56 @@
+package com.sunic.community.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-operation latency histograms in microseconds, with error counts, printed as one table per run.
+ */
+class LatencyReport {
+
+	private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+	private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+	void record(String operation, long elapsedNanos, boolean success) {
+		histograms.computeIfAbsent(operation, key -> new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3))
+			.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+		if (!success) {
+			errors.computeIfAbsent(operation, key -> new LongAdder()).increment();
+		}
+	}
+
+	void print(PrintStream out, double elapsedSeconds) {
+		Histogram total = new Histogram(MAX_TRACKABLE_MICROS, 3);
+		long totalErrors = 0;
+		out.printf("%-28s %10s %10s %10s %10s %10s %10s %8s%n",
+			"operation", "count", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+		for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+			long operationErrors = errors.getOrDefault(entry.getKey(), new LongAdder()).sum();
+			printRow(out, entry.getKey(), entry.getValue(), operationErrors, elapsedSeconds);
+			total.add(entry.getValue());
+			totalErrors += operationErrors;
+		}
+		printRow(out, "TOTAL", total, totalErrors, elapsedSeconds);
+	}
+
+	private static void printRow(PrintStream out, String name, Histogram histogram, long errors,
+		double elapsedSeconds) {
+		out.printf("%-28s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n", name, histogram.getTotalCount(),
+			histogram.getTotalCount() / elapsedSeconds, millis(histogram.getValueAtPercentile(50)),
+			millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+			millis(histogram.getMaxValue()), errors);
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+}
@@ -0,0 +1,120 @@
+package com.sunic.community.loadtest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sunic.community.CommunityBootApplication;
+import com.sunic.community.loadtest.generator.DataGenerator;
+import com.sunic.community.loadtest.generator.GeneratorSettings;
+
+/**
+ * Boots community-boot against an in-memory H2 database in MySQL mode and a stubbed user service, seeds it
+ * with the {@link DataGenerator} (or through the API with {@code -Dloadtest.seeder=api}), then drives the mixed {@link Workload} from {@code loadtest.concurrency} closed-loop clients and prints
+ * p50/p99/p999 latency and throughput per endpoint.
+ * <p>
+ * Run with {@code ./gradlew :community-boot:loadTest -Dloadtest.duration-seconds=120 -Dloadtest.user-latency-ms=30};
+ * every {@code loadtest.*} system property is passed through. Add {@code -Dloadtest.profiles=virtual-threads} to
+ * compare execution modes.
+ */
+public class LoadTestRunner {
+
+	public static void main(String[] args) throws Exception {
+		long warmupSeconds = Long.getLong("loadtest.warmup-seconds", 10);
+		long durationSeconds = Long.getLong("loadtest.duration-seconds", 60);
+		int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+		long userLatencyMs = Long.getLong("loadtest.user-latency-ms", 20);
+		long userJitterMs = Long.getLong("loadtest.user-jitter-ms", 10);
+		String profiles = System.getProperty("loadtest.profiles", "");
+
+		try (UserServiceStub userService = new UserServiceStub(userLatencyMs, userJitterMs);
+			 ConfigurableApplicationContext context = SpringApplication.run(CommunityBootApplication.class,
+				 applicationArgs(userService.baseUrl(), profiles))) {
+			String port = context.getEnvironment().getProperty("local.server.port");
+			CommunityClient client = new CommunityClient("http://127.0.0.1:" + port);
+
+			long seedStart = System.nanoTime();
+			WorkloadState state;
+			if ("api".equals(System.getProperty("loadtest.seeder", "bulk"))) {
+				state = new WorkloadState(Integer.getInteger("loadtest.users", 1000), 0);
+				new ApiSeeder(client, state).seed(
+					Integer.getInteger("loadtest.communities", 50),
+					Integer.getInteger("loadtest.memberships-per-user", 3),
+					Integer.getInteger("loadtest.posts", 2000),
+					Integer.getInteger("loadtest.comments-per-post", 3));
+			} else {
+				GeneratorSettings settings = GeneratorSettings.fromSystemProperties("loadtest", GeneratorSettings.SMALL);
+				new DataGenerator(context.getBean(JdbcTemplate.class), settings).generate();
+				state = WorkloadState.generated(settings);
+			}
+			System.out.printf("Seeded %d communities and %d posts in %d s%n", state.communityIds.size(),
+				state.postIds.size(), Duration.ofNanos(System.nanoTime() - seedStart).toSeconds());
+
+			Workload workload = new Workload();
+			run(client, state, workload, new LatencyReport(), concurrency, warmupSeconds);
+			LatencyReport report = new LatencyReport();
+			run(client, state, workload, report, concurrency, durationSeconds);
+
+			System.out.printf("%nconcurrency=%d user-latency=%d±%d ms profiles=[%s] duration=%d s%n",
+				concurrency, userLatencyMs, userJitterMs, profiles, durationSeconds);
+			report.print(System.out, durationSeconds);
+		}
+	}
+
+	private static void run(CommunityClient client, WorkloadState state, Workload workload, LatencyReport report,
+		int concurrency, long seconds) throws Exception {
+		long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> clients = new ArrayList<>(concurrency);
+			for (int i = 0; i < concurrency; i++) {
+				clients.add(executor.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						Workload.Operation operation = workload.next();
+						long start = System.nanoTime();
+						boolean success;
+						try {
+							CommunityClient.Response response = operation.call().run(client, state);
+							if (response == null) {
+								continue;
+							}
+							success = response.isSuccess();
+						} catch (IOException e) {
+							success = false;
+						}
+						report.record(operation.name(), System.nanoTime() - start, success);
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : clients) {
+				future.get();
+			}
+		}
+	}
+
+	private static String[] applicationArgs(String userServiceUrl, String profiles) {
+		return new String[] {
+			"--spring.profiles.active=" + (profiles.isBlank() ? "loadtest" : "loadtest," + profiles),
+			"--server.port=0",
+			"--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+			"--spring.datasource.driver-class-name=org.h2.Driver",
+			"--spring.datasource.username=sa",
+			"--spring.datasource.password=",
+			"--spring.jpa.hibernate.ddl-auto=create",
+			"--spring.jpa.show-sql=false",
+			"--spring.jpa.properties.hibernate.show_sql=false",
+			"--user.client.base-url=" + userServiceUrl,
+			"--community.rate-limit.enabled=" + System.getProperty("loadtest.rate-limit", "false"),
+			"--logging.level.com.sunic.community=WARN",
+			"--logging.level.org.springframework.security=WARN"
+		};
+	}
+}
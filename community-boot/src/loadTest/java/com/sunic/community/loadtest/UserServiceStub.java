@@ -0,0 +1,59 @@
+package com.sunic.community.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stands in for the user service: answers every {@code /user/client/check*} call with a valid user after
+ * {@code latencyMs} plus up to {@code jitterMs} of simulated work.
+ */
+class UserServiceStub implements AutoCloseable {
+
+	private static final byte[] VALID = "{\"success\":true,\"message\":\"ok\",\"data\":true}"
+		.getBytes(StandardCharsets.UTF_8);
+
+	private final HttpServer server;
+	private final long latencyMs;
+	private final long jitterMs;
+
+	UserServiceStub(long latencyMs, long jitterMs) throws IOException {
+		this.latencyMs = latencyMs;
+		this.jitterMs = jitterMs;
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/user/client/", this::handle);
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		server.start();
+	}
+
+	String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+			if (delay > 0) {
+				Thread.sleep(delay);
+			}
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, VALID.length);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(VALID);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+}
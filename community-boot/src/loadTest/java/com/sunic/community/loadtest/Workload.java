@@ -0,0 +1,170 @@
+package com.sunic.community.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.sunic.community.spec.community.entity.CommunityType;
+import com.sunic.community.spec.community.facade.sdo.CommunityCdo;
+import com.sunic.community.spec.community.facade.sdo.CommunityUdo;
+import com.sunic.community.spec.community.facade.sdo.MemberJoinCdo;
+import com.sunic.community.spec.post.entity.PostType;
+import com.sunic.community.spec.post.facade.sdo.CommentCdo;
+import com.sunic.community.spec.post.facade.sdo.PostCdo;
+import com.sunic.community.spec.post.facade.sdo.PostUdo;
+
+/**
+ * Weighted mix over every CommunityResource and PostResource endpoint, read-heavy like production traffic.
+ * Operations that need a row the run created skip, without recording, while none is available.
+ */
+class Workload {
+
+	@FunctionalInterface
+	interface Call {
+		CommunityClient.Response run(CommunityClient client, WorkloadState state)
+			throws IOException, InterruptedException;
+	}
+
+	record Operation(String name, int weight, Call call) {
+	}
+
+	private final List<Operation> operations = new ArrayList<>();
+	private final int totalWeight;
+
+	Workload() {
+		// community reads
+		add("community.list", 2, (client, state) -> client.get("/api/v1/communities"));
+		add("community.get", 10, (client, state) -> client.get("/api/v1/communities/" + state.randomCommunity()));
+		add("community.member.check", 5, (client, state) -> client.get(
+			"/api/v1/communities/" + state.randomCommunity() + "/members/" + state.randomUser() + "/check"));
+		// community writes
+		add("community.register", 1, Workload::registerCommunity);
+		add("community.modify", 1, (client, state) -> client.put("/api/v1/communities/" + state.randomCommunity(),
+			CommunityUdo.builder().type(CommunityType.OPEN).name("renamed " + state.randomUser())
+				.description(text(200)).modifier(state.randomUser()).build()));
+		add("community.delete", 1, (client, state) -> {
+			Integer id = state.createdCommunityIds.poll();
+			return id == null ? null : client.delete("/api/v1/communities/" + id + "?userId=" + state.randomUser());
+		});
+		add("community.member.join", 2, Workload::join);
+		add("community.member.leave", 1, (client, state) -> {
+			long[] member = state.joinedMembers.poll();
+			if (member == null) {
+				return null;
+			}
+			CommunityClient.Response response = client.delete(
+				"/api/v1/communities/" + member[0] + "/members/" + member[1]);
+			state.releaseMembership((int)member[0], (int)member[1]);
+			return response;
+		});
+		// post reads
+		add("post.get", 25, (client, state) -> client.get("/api/v1/posts/" + state.randomPost()));
+		add("post.page", 15, (client, state) -> client.get(
+			"/api/v1/posts?communityId=" + state.randomCommunity() + "&size=20"));
+		add("post.list", 2, (client, state) -> client.get("/api/v1/posts?communityId=" + state.randomCommunity()));
+		add("post.feed", 10, (client, state) -> client.get("/api/v1/posts/feed?userId=" + state.randomUser()));
+		add("comment.list", 8, (client, state) -> client.get("/api/v1/posts/" + state.randomPost() + "/comments"));
+		add("reaction.get", 3, (client, state) -> client.get("/api/v1/posts/reactions?postIds=" + state.randomPost()
+			+ "," + state.randomPost() + "&userId=" + state.randomUser()));
+		// post writes
+		add("post.create", 4, Workload::createPost);
+		add("post.update", 2, (client, state) -> {
+			int id = state.randomPost();
+			return client.put("/api/v1/posts/" + id, PostUdo.builder().id(id).title("edited").content(text(500))
+				.postType(PostType.POST).modifier(state.randomUser()).build());
+		});
+		add("post.delete", 1, (client, state) -> {
+			Integer id = state.createdPostIds.poll();
+			return id == null ? null : client.delete("/api/v1/posts/" + id + "?userId=" + state.randomUser());
+		});
+		add("comment.create", 6, (client, state) -> {
+			CommunityClient.Response response = client.post("/api/v1/posts/" + state.randomPost() + "/comments",
+				CommentCdo.builder().content(text(120)).registrant(state.randomUser()).build());
+			if (response.dataId() != null) {
+				state.createdCommentIds.add(response.dataId());
+			}
+			return response;
+		});
+		add("comment.delete", 1, (client, state) -> {
+			Integer id = state.createdCommentIds.poll();
+			return id == null ? null
+				: client.delete("/api/v1/posts/comments/" + id + "?userId=" + state.randomUser());
+		});
+		add("reaction.like", 4, (client, state) -> client.put(
+			"/api/v1/posts/" + state.randomPost() + "/reactions?userId=" + state.randomUser(), null));
+		add("reaction.unlike", 1, (client, state) -> client.delete(
+			"/api/v1/posts/" + state.randomPost() + "/reactions?userId=" + state.randomUser()));
+
+		this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+	}
+
+	Operation next() {
+		int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (Operation operation : operations) {
+			pick -= operation.weight();
+			if (pick < 0) {
+				return operation;
+			}
+		}
+		throw new IllegalStateException("Weights changed while picking");
+	}
+
+	static CommunityClient.Response registerCommunity(CommunityClient client, WorkloadState state)
+		throws IOException, InterruptedException {
+		int registrant = state.randomUser();
+		CommunityClient.Response response = client.post("/api/v1/communities", CommunityCdo.builder()
+			.type(CommunityType.OPEN)
+			.name("community " + registrant)
+			.description(text(200))
+			.managerId("manager" + registrant)
+			.managerName("Manager " + registrant)
+			.managerEmail("manager" + registrant + "@example.com")
+			.registrant(registrant)
+			.allowSelfJoin(true)
+			.secretNumber("0000")
+			.build());
+		if (response.dataId() != null) {
+			state.createdCommunityIds.add(response.dataId());
+		}
+		return response;
+	}
+
+	static CommunityClient.Response createPost(CommunityClient client, WorkloadState state)
+		throws IOException, InterruptedException {
+		CommunityClient.Response response = client.post("/api/v1/posts", PostCdo.builder()
+			.title("post " + ThreadLocalRandom.current().nextInt())
+			.content(text(500))
+			.postType(PostType.POST)
+			.communityId(state.randomCommunity())
+			.registrant(state.randomUser())
+			.build());
+		if (response.dataId() != null) {
+			state.createdPostIds.add(response.dataId());
+		}
+		return response;
+	}
+
+	static CommunityClient.Response join(CommunityClient client, WorkloadState state)
+		throws IOException, InterruptedException {
+		int communityId = state.randomCommunity();
+		int userId = state.randomUser() + state.joiningUserOffset;
+		if (!state.claimMembership(communityId, userId)) {
+			return null;
+		}
+		CommunityClient.Response response = client.post("/api/v1/communities/" + communityId + "/members",
+			MemberJoinCdo.builder().userId(userId).registrant(userId).secretNumber("0000").build());
+		if (response.isSuccess()) {
+			state.joinedMembers.add(new long[] {communityId, userId});
+		}
+		return response;
+	}
+
+	static String text(int length) {
+		return "lorem ipsum ".repeat(length / 12 + 1).substring(0, length);
+	}
+
+	private void add(String name, int weight, Call call) {
+		operations.add(new Operation(name, weight, call));
+	}
+}
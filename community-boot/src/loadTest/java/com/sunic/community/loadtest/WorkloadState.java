@@ -0,0 +1,72 @@
+package com.sunic.community.loadtest;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import com.sunic.community.loadtest.generator.GeneratorSettings;
+
+/**
+ * Ids known to exist in the database under test. Seeded rows are only read and updated, while deletes only
+ * target rows the run created itself, so the read mix stays stable for the whole run.
+ */
+class WorkloadState {
+
+	final int userCount;
+	final int joiningUserOffset;
+	final List<Integer> communityIds = new CopyOnWriteArrayList<>();
+	final List<Integer> postIds = new CopyOnWriteArrayList<>();
+	final Queue<Integer> createdCommunityIds = new ConcurrentLinkedQueue<>();
+	final Queue<Integer> createdPostIds = new ConcurrentLinkedQueue<>();
+	final Queue<Integer> createdCommentIds = new ConcurrentLinkedQueue<>();
+	final Queue<long[]> joinedMembers = new ConcurrentLinkedQueue<>();
+	private final Set<Long> memberships = ConcurrentHashMap.newKeySet();
+
+	WorkloadState(int userCount, int joiningUserOffset) {
+		this.userCount = userCount;
+		this.joiningUserOffset = joiningUserOffset;
+	}
+
+	/**
+	 * State over a generated dataset, whose memberships are not tracked here. Joins therefore use user ids past
+	 * the generated ones, which cannot collide with an existing membership.
+	 */
+	static WorkloadState generated(GeneratorSettings settings) {
+		WorkloadState state = new WorkloadState(settings.users(), settings.users());
+		state.communityIds.addAll(IntStream.rangeClosed(1, settings.communities()).boxed().toList());
+		state.postIds.addAll(IntStream.rangeClosed(1, settings.posts()).boxed().toList());
+		return state;
+	}
+
+	int randomUser() {
+		return ThreadLocalRandom.current().nextInt(userCount) + 1;
+	}
+
+	int randomCommunity() {
+		return communityIds.get(ThreadLocalRandom.current().nextInt(communityIds.size()));
+	}
+
+	int randomPost() {
+		return postIds.get(ThreadLocalRandom.current().nextInt(postIds.size()));
+	}
+
+	/**
+	 * @return whether the membership was newly claimed, so the caller may join it without a conflict
+	 */
+	boolean claimMembership(int communityId, int userId) {
+		return memberships.add(key(communityId, userId));
+	}
+
+	void releaseMembership(int communityId, int userId) {
+		memberships.remove(key(communityId, userId));
+	}
+
+	private static long key(int communityId, int userId) {
+		return ((long)communityId << 32) | userId;
+	}
+}
@@ -0,0 +1,267 @@
+package com.sunic.community.loadtest.generator;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sunic.community.aggregate.community.store.jpo.CommunityJpo;
+import com.sunic.community.aggregate.community.store.jpo.MemberJpo;
+import com.sunic.community.aggregate.post.store.jpo.CommentJpo;
+import com.sunic.community.aggregate.post.store.jpo.PostJpo;
+import com.sunic.community.aggregate.post.store.jpo.PostStatsJpo;
+import com.sunic.community.aggregate.post.store.jpo.PostTypeJpo;
+import com.sunic.community.spec.community.entity.CommunityType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk-loads a synthetic dataset with production-like skew into an empty schema.
+ * <p>
+ * Community sizes, post authorship, post placement and comments per post follow Zipf distributions, so a few
+ * communities are huge, a few users write most posts and a few posts go viral. Rows are built with the JPO
+ * builders and written with batched JDBC inserts with explicit ids 1..n. Every draw comes from one
+ * {@link SplittableRandom} seeded from the settings, so a seed always produces the same rows.
+ */
+@Slf4j
+public class DataGenerator {
+
+	private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+	private static final long EPOCH = 1_700_000_000_000L;
+	private static final long SPAN_MILLIS = 365 * DAY_MILLIS;
+	private static final String[] WORDS = {"community", "post", "comment", "weekend", "meetup", "question",
+		"answer", "update", "photo", "event", "thanks", "great", "idea", "schedule", "notice", "welcome"};
+
+	private final JdbcTemplate jdbcTemplate;
+	private final GeneratorSettings settings;
+	private final SplittableRandom random;
+
+	public DataGenerator(JdbcTemplate jdbcTemplate, GeneratorSettings settings) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.settings = settings;
+		this.random = new SplittableRandom(settings.seed());
+	}
+
+	public void generate() {
+		ZipfSampler communities = new ZipfSampler(settings.communities(), settings.communitySkew());
+		ZipfSampler users = new ZipfSampler(settings.users(), settings.userSkew());
+
+		long[] memberCounts = new long[settings.communities() + 1];
+		insertCommunities();
+		long members = insertMembers(communities, memberCounts);
+		updateMemberCounts(memberCounts);
+		insertPosts(communities, users);
+		long comments = insertComments(users);
+		insertPostStats();
+		restartIdentities();
+		log.info("Generated {} communities, {} members, {} posts and {} comments from seed {}",
+			settings.communities(), members, settings.posts(), comments, settings.seed());
+	}
+
+	private void insertCommunities() {
+		CommunityType[] types = CommunityType.values();
+		batchInsert("INSERT INTO community (id, type, thumbnail, name, description, manager_id, manager_name, "
+				+ "manager_email, member_count, registered_time, registrant, modified_time, modifier, secret_number, "
+				+ "allow_self_join) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+			settings.communities(), id -> {
+				CommunityJpo jpo = CommunityJpo.builder()
+					.id(id)
+					.type(types[random.nextInt(types.length)])
+					.thumbnail("https://cdn.example.com/community/" + id + ".png")
+					.name("Community " + id)
+					.description(text(40, 400))
+					.managerId("manager" + id)
+					.managerName("Manager " + id)
+					.managerEmail("manager" + id + "@example.com")
+					.memberCount(0L)
+					.registeredTime(time())
+					.registrant(1)
+					.modifiedTime(EPOCH + SPAN_MILLIS)
+					.modifier(1)
+					.secretNumber(String.format("%04d", random.nextInt(10_000)))
+					.allowSelfJoin(true)
+					.build();
+				return new Object[] {jpo.getId(), jpo.getType().name(), jpo.getThumbnail(), jpo.getName(),
+					jpo.getDescription(), jpo.getManagerId(), jpo.getManagerName(), jpo.getManagerEmail(),
+					jpo.getMemberCount(), jpo.getRegisteredTime(), jpo.getRegistrant(), jpo.getModifiedTime(),
+					jpo.getModifier(), jpo.getSecretNumber(), jpo.isAllowSelfJoin()};
+			});
+	}
+
+	private long insertMembers(ZipfSampler communities, long[] memberCounts) {
+		List<Object[]> rows = new ArrayList<>(settings.batchSize());
+		long id = 0;
+		for (int userId = 1; userId <= settings.users(); userId++) {
+			Set<Integer> joined = new HashSet<>();
+			int target = Math.min(settings.membershipsPerUser(), settings.communities());
+			for (int attempt = 0; joined.size() < target && attempt < target * 4; attempt++) {
+				joined.add(communities.sample(random));
+			}
+			for (int communityId : joined) {
+				MemberJpo jpo = MemberJpo.builder()
+					.id((int)++id)
+					.community(CommunityJpo.builder().id(communityId).build())
+					.userId(userId)
+					.joinedTime(time())
+					.registrant(userId)
+					.build();
+				memberCounts[communityId]++;
+				rows.add(new Object[] {jpo.getId(), jpo.getCommunity().getId(), jpo.getUserId(), jpo.getJoinedTime(),
+					jpo.getRegistrant()});
+				flushIfFull("INSERT INTO member (id, community_id, user_id, joined_time, registrant) "
+					+ "VALUES (?, ?, ?, ?, ?)", rows);
+			}
+		}
+		flush("INSERT INTO member (id, community_id, user_id, joined_time, registrant) VALUES (?, ?, ?, ?, ?)", rows);
+		return id;
+	}
+
+	private void updateMemberCounts(long[] memberCounts) {
+		List<Object[]> rows = new ArrayList<>(settings.batchSize());
+		for (int id = 1; id < memberCounts.length; id++) {
+			rows.add(new Object[] {memberCounts[id], id});
+			flushIfFull("UPDATE community SET member_count = ? WHERE id = ?", rows);
+		}
+		flush("UPDATE community SET member_count = ? WHERE id = ?", rows);
+	}
+
+	private void insertPosts(ZipfSampler communities, ZipfSampler users) {
+		long step = SPAN_MILLIS / Math.max(1, settings.posts());
+		batchInsert("INSERT INTO post (id, title, content, post_type, community_id, registered_time, registrant, "
+				+ "modified_time, modifier) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+			settings.posts(), id -> {
+				int registrant = users.sample(random);
+				long registeredTime = EPOCH + id * step;
+				PostJpo jpo = PostJpo.builder()
+					.id(id)
+					.title("Post " + id)
+					.content(text(80, 2_000))
+					.postType(random.nextInt(50) == 0 ? PostTypeJpo.NOTIFICATION : PostTypeJpo.POST)
+					.community(CommunityJpo.builder().id(communities.sample(random)).build())
+					.registeredTime(registeredTime)
+					.registrant(registrant)
+					.modifiedTime(registeredTime)
+					.modifier(registrant)
+					.build();
+				return new Object[] {jpo.getId(), jpo.getTitle(), jpo.getContent(), jpo.getPostType().name(),
+					jpo.getCommunity().getId(), jpo.getRegisteredTime(), jpo.getRegistrant(), jpo.getModifiedTime(),
+					jpo.getModifier()};
+			});
+	}
+
+	/**
+	 * Draws each comment's post from a Zipf distribution over a shuffled post order, so viral posts are spread
+	 * across communities and ages instead of being the oldest ones.
+	 */
+	private long insertComments(ZipfSampler users) {
+		long total = (long)settings.posts() * settings.commentsPerPost();
+		if (total == 0) {
+			return 0;
+		}
+		ZipfSampler posts = new ZipfSampler(settings.posts(), settings.postSkew());
+		int[] postByRank = shuffledIds(settings.posts());
+		batchInsert("INSERT INTO comment (id, content, post_id, registered_time, registrant, modified_time, modifier) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?)",
+			Math.toIntExact(total), id -> {
+				int registrant = users.sample(random);
+				long registeredTime = time();
+				CommentJpo jpo = CommentJpo.builder()
+					.id(id)
+					.content(text(10, 300))
+					.post(PostJpo.builder().id(postByRank[posts.sample(random) - 1]).build())
+					.registeredTime(registeredTime)
+					.registrant(registrant)
+					.modifiedTime(registeredTime)
+					.modifier(registrant)
+					.build();
+				return new Object[] {jpo.getId(), jpo.getContent(), jpo.getPost().getId(), jpo.getRegisteredTime(),
+					jpo.getRegistrant(), jpo.getModifiedTime(), jpo.getModifier()};
+			});
+		return total;
+	}
+
+	private void insertPostStats() {
+		ZipfSampler views = new ZipfSampler(1_000, 1.0);
+		batchInsert("INSERT INTO post_stats (post_id, view_count) VALUES (?, ?)", settings.posts(), id -> {
+			PostStatsJpo jpo = PostStatsJpo.builder()
+				.postId(id)
+				.viewCount((long)(1_000 / views.sample(random)) * random.nextInt(1, 100))
+				.build();
+			return new Object[] {jpo.getPostId(), jpo.getViewCount()};
+		});
+	}
+
+	/**
+	 * MySQL moves AUTO_INCREMENT past explicit ids by itself, H2 identity columns have to be restarted.
+	 */
+	private void restartIdentities() {
+		String product = jdbcTemplate.execute((Connection connection) -> databaseProduct(connection));
+		if (!"H2".equals(product)) {
+			return;
+		}
+		for (String table : List.of("community", "member", "post", "comment")) {
+			Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+			jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (max + 1));
+		}
+	}
+
+	private void batchInsert(String sql, int count, IntFunction<Object[]> row) {
+		List<Object[]> rows = new ArrayList<>(settings.batchSize());
+		for (int id = 1; id <= count; id++) {
+			rows.add(row.apply(id));
+			flushIfFull(sql, rows);
+		}
+		flush(sql, rows);
+	}
+
+	private void flushIfFull(String sql, List<Object[]> rows) {
+		if (rows.size() >= settings.batchSize()) {
+			flush(sql, rows);
+		}
+	}
+
+	private void flush(String sql, List<Object[]> rows) {
+		if (!rows.isEmpty()) {
+			jdbcTemplate.batchUpdate(sql, rows);
+			rows.clear();
+		}
+	}
+
+	private int[] shuffledIds(int n) {
+		int[] ids = new int[n];
+		for (int i = 0; i < n; i++) {
+			ids[i] = i + 1;
+		}
+		for (int i = n - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int swap = ids[i];
+			ids[i] = ids[j];
+			ids[j] = swap;
+		}
+		return ids;
+	}
+
+	private long time() {
+		return EPOCH + random.nextLong(SPAN_MILLIS);
+	}
+
+	private String text(int minLength, int maxLength) {
+		int length = random.nextInt(minLength, maxLength + 1);
+		StringBuilder text = new StringBuilder(length);
+		while (text.length() < length) {
+			text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+		}
+		return text.substring(0, length);
+	}
+
+	private static String databaseProduct(Connection connection) throws SQLException {
+		return connection.getMetaData().getDatabaseProductName();
+	}
+}
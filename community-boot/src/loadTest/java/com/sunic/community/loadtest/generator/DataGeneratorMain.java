@@ -0,0 +1,27 @@
+package com.sunic.community.loadtest.generator;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sunic.community.CommunityBootApplication;
+
+/**
+ * Fills the database configured by {@code spring.datasource.*} (the application's own MySQL by default) with a
+ * generated dataset. The application context is started without a web server so Hibernate creates the schema.
+ * <p>
+ * Run with {@code ./gradlew :community-boot:generateData -Dgenerator.posts=5000000 -Dgenerator.seed=7}; add
+ * {@code rewriteBatchedStatements=true} to the MySQL URL so that batches are sent as multi-row INSERTs.
+ */
+public class DataGeneratorMain {
+
+	public static void main(String[] args) {
+		GeneratorSettings settings = GeneratorSettings.fromSystemProperties("generator", GeneratorSettings.LARGE);
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CommunityBootApplication.class)
+			.web(WebApplicationType.NONE)
+			.run(args)) {
+			new DataGenerator(context.getBean(JdbcTemplate.class), settings).generate();
+		}
+	}
+}
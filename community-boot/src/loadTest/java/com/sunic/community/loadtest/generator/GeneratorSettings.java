@@ -0,0 +1,49 @@
+package com.sunic.community.loadtest.generator;
+
+/**
+ * Size and skew of a generated dataset. Read from {@code <prefix>.*} system properties, so the same dataset
+ * is reproduced whenever the same values and seed are given.
+ */
+public record GeneratorSettings(
+	long seed,
+	int communities,
+	int users,
+	int membershipsPerUser,
+	int posts,
+	int commentsPerPost,
+	double communitySkew,
+	double userSkew,
+	double postSkew,
+	int batchSize) {
+
+	/**
+	 * Defaults of the standalone generator, sized for index and pagination work against MySQL.
+	 */
+	public static final GeneratorSettings LARGE = new GeneratorSettings(42L, 1_000, 100_000, 5, 1_000_000, 5,
+		1.1, 1.0, 1.2, 1_000);
+
+	/**
+	 * Defaults of the load harness, sized to fit an in-memory database.
+	 */
+	public static final GeneratorSettings SMALL = new GeneratorSettings(42L, 100, 10_000, 3, 20_000, 5,
+		1.1, 1.0, 1.2, 1_000);
+
+	public static GeneratorSettings fromSystemProperties(String prefix, GeneratorSettings defaults) {
+		return new GeneratorSettings(
+			Long.getLong(prefix + ".seed", defaults.seed()),
+			Integer.getInteger(prefix + ".communities", defaults.communities()),
+			Integer.getInteger(prefix + ".users", defaults.users()),
+			Integer.getInteger(prefix + ".memberships-per-user", defaults.membershipsPerUser()),
+			Integer.getInteger(prefix + ".posts", defaults.posts()),
+			Integer.getInteger(prefix + ".comments-per-post", defaults.commentsPerPost()),
+			doubleProperty(prefix + ".community-skew", defaults.communitySkew()),
+			doubleProperty(prefix + ".user-skew", defaults.userSkew()),
+			doubleProperty(prefix + ".post-skew", defaults.postSkew()),
+			Integer.getInteger(prefix + ".batch-size", defaults.batchSize()));
+	}
+
+	private static double doubleProperty(String name, double defaultValue) {
+		String value = System.getProperty(name);
+		return value == null ? defaultValue : Double.parseDouble(value);
+	}
+}
@@ -0,0 +1,30 @@
+package com.sunic.community.loadtest.generator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples ranks {@code 1..n} with probability proportional to {@code 1 / rank^exponent}, by binary search over a
+ * precomputed CDF. Memory is {@code 8n} bytes, which is fine for the few million ranks the generator needs.
+ */
+class ZipfSampler {
+
+	private final double[] cdf;
+
+	ZipfSampler(int n, double exponent) {
+		cdf = new double[n];
+		double sum = 0;
+		for (int rank = 1; rank <= n; rank++) {
+			sum += 1.0 / Math.pow(rank, exponent);
+			cdf[rank - 1] = sum;
+		}
+		for (int i = 0; i < n; i++) {
+			cdf[i] /= sum;
+		}
+	}
+
+	int sample(SplittableRandom random) {
+		int index = Arrays.binarySearch(cdf, random.nextDouble());
+		return (index >= 0 ? index : -index - 1) + 1;
+	}
+}
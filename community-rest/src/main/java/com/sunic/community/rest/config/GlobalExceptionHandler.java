@@ -2,57 +2,93 @@ package com.sunic.community.rest.config;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.sunic.community.spec.common.ApiResponse;
+import com.sunic.community.spec.common.exception.DomainException;
+import com.sunic.community.spec.common.exception.InvalidRequestException;
+import com.sunic.community.spec.common.exception.TooManyRequestsException;
+import com.sunic.community.spec.common.exception.UnauthorizedException;
 import com.sunic.community.spec.community.exception.CommunityNotFoundException;
 import com.sunic.community.spec.community.exception.MembershipException;
 import com.sunic.community.spec.post.exception.CommentNotFoundException;
 import com.sunic.community.spec.post.exception.PostNotFoundException;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+	private final MeterRegistry meterRegistry;
+	private final Map<Class<?>, LogWindow> logWindows = new ConcurrentHashMap<>();
+
+	@Value("${community.error-log.interval-ms:10000}")
+	private long logIntervalMs;
+
 	@ExceptionHandler(CommunityNotFoundException.class)
 	public ResponseEntity<ApiResponse<Void>> handleCommunityNotFound(CommunityNotFoundException ex) {
-		log.error("Community not found: {}", ex.getMessage());
-		return ResponseEntity.status(HttpStatus.NOT_FOUND)
-			.body(ApiResponse.error(ex.getMessage()));
+		return respond(ex, HttpStatus.NOT_FOUND);
 	}
 
 	@ExceptionHandler(PostNotFoundException.class)
 	public ResponseEntity<ApiResponse<Void>> handlePostNotFound(PostNotFoundException ex) {
-		log.error("Post not found: {}", ex.getMessage());
-		return ResponseEntity.status(HttpStatus.NOT_FOUND)
-			.body(ApiResponse.error(ex.getMessage()));
+		return respond(ex, HttpStatus.NOT_FOUND);
 	}
 
 	@ExceptionHandler(CommentNotFoundException.class)
 	public ResponseEntity<ApiResponse<Void>> handleCommentNotFound(CommentNotFoundException ex) {
-		log.error("Comment not found: {}", ex.getMessage());
-		return ResponseEntity.status(HttpStatus.NOT_FOUND)
-			.body(ApiResponse.error(ex.getMessage()));
+		return respond(ex, HttpStatus.NOT_FOUND);
 	}
 
 	@ExceptionHandler(MembershipException.class)
 	public ResponseEntity<ApiResponse<Void>> handleMembershipException(MembershipException ex) {
-		log.error("Membership error: {}", ex.getMessage());
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-			.body(ApiResponse.error(ex.getMessage()));
+		return respond(ex, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(InvalidRequestException.class)
+	public ResponseEntity<ApiResponse<Void>> handleInvalidRequest(InvalidRequestException ex) {
+		return respond(ex, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(UnauthorizedException.class)
+	public ResponseEntity<ApiResponse<Void>> handleUnauthorized(UnauthorizedException ex) {
+		return respond(ex, HttpStatus.UNAUTHORIZED);
+	}
+
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<ApiResponse<Void>> handleTooManyRequests(TooManyRequestsException ex) {
+		return respond(ex, HttpStatus.TOO_MANY_REQUESTS);
+	}
+
+	@ExceptionHandler(MethodArgumentTypeMismatchException.class)
+	public ResponseEntity<ApiResponse<Void>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+		return respond(ex, HttpStatus.BAD_REQUEST, "Invalid value for parameter '" + ex.getName() + "'");
+	}
+
+	@ExceptionHandler(MissingServletRequestParameterException.class)
+	public ResponseEntity<ApiResponse<Void>> handleMissingParameter(MissingServletRequestParameterException ex) {
+		return respond(ex, HttpStatus.BAD_REQUEST, "Required parameter '" + ex.getParameterName() + "' is missing");
 	}
 
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationExceptions(
 		MethodArgumentNotValidException ex) {
+		countError(ex, HttpStatus.BAD_REQUEST);
 		Map<String, String> errors = new HashMap<>();
 		ex.getBindingResult().getAllErrors().forEach((error) -> {
 			String fieldName = ((FieldError)error).getField();
@@ -70,8 +106,58 @@ public class GlobalExceptionHandler {
 
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ApiResponse<Void>> handleGenericException(Exception ex) {
+		countError(ex, HttpStatus.INTERNAL_SERVER_ERROR);
 		log.error("Unexpected error occurred", ex);
 		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
 			.body(ApiResponse.error("An unexpected error occurred"));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Counts every domain error by type and status, but logs at most one WARN per type per interval,
+	 * carrying the number of occurrences suppressed since the previous line.
+	 */
+	private ResponseEntity<ApiResponse<Void>> respond(DomainException ex, HttpStatus status) {
+		return respond(ex, status, ex.getMessage());
+	}
+
+	/**
+	 * Like {@link #respond(DomainException, HttpStatus)} for a client error raised outside the domain, answered
+	 * with the given message instead of the framework's.
+	 */
+	private ResponseEntity<ApiResponse<Void>> respond(Exception ex, HttpStatus status, String message) {
+		countError(ex, status);
+		LogWindow window = logWindows.computeIfAbsent(ex.getClass(), type -> new LogWindow());
+		long suppressed = window.tryOpen(System.currentTimeMillis(), logIntervalMs);
+		if (suppressed >= 0) {
+			log.warn("{} ({}): {} [{} similar suppressed]", ex.getClass().getSimpleName(), status.value(),
+				message, suppressed);
+		} else {
+			log.debug("{} ({}): {}", ex.getClass().getSimpleName(), status.value(), message);
+		}
+		return ResponseEntity.status(status).body(ApiResponse.error(message));
+	}
+
+	private void countError(Exception ex, HttpStatus status) {
+		meterRegistry.counter("community.errors",
+			"exception", ex.getClass().getSimpleName(), "status", String.valueOf(status.value())).increment();
+	}
+
+	private static class LogWindow {
+		private final AtomicLong openedAt = new AtomicLong(Long.MIN_VALUE);
+		private final AtomicLong suppressed = new AtomicLong();
+
+		/**
+		 * Returns the suppressed count if this call opens a new window and should log, or -1 otherwise.
+		 */
+		long tryOpen(long now, long intervalMs) {
+			long opened = openedAt.get();
+			if (opened == Long.MIN_VALUE || now - opened >= intervalMs) {
+				if (openedAt.compareAndSet(opened, now)) {
+					return suppressed.getAndSet(0);
+				}
+			}
+			suppressed.incrementAndGet();
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.sunic.community.rest.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.sunic.community.aggregate.config.datasource.ReadYourWritesContext;
+
+/**
+ * Tells the client how long to keep sending {@code X-Primary-Until} after a request that wrote,
+ * so its follow-up reads are not served by a lagging replica.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "community.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadYourWritesAdvice implements ResponseBodyAdvice<Object> {
+
+	private final long windowMs;
+
+	public ReadYourWritesAdvice(@Value("${community.datasource.replica.read-your-writes-window-ms:5000}") long windowMs) {
+		this.windowMs = windowMs;
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return windowMs > 0;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+		Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+		ServerHttpResponse response) {
+		if (ReadYourWritesContext.hasWritten()) {
+			response.getHeaders().set(ReadYourWritesFilter.PRIMARY_UNTIL_HEADER,
+				String.valueOf(System.currentTimeMillis() + windowMs));
+		}
+		return body;
+	}
+}
@@ -0,0 +1,58 @@
+package com.sunic.community.rest.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.sunic.community.aggregate.config.datasource.ReadYourWritesContext;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Opens the read-your-writes context for each request, honouring the primary-until deadline a client
+ * echoes back from an earlier write response. The deadline is client-supplied, so it is capped at
+ * {@code read-your-writes-window-ms} from now and a deadline in the past is ignored.
+ */
+@Component
+@ConditionalOnProperty(prefix = "community.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+	public static final String PRIMARY_UNTIL_HEADER = "X-Primary-Until";
+
+	private final long windowMs;
+
+	public ReadYourWritesFilter(@Value("${community.datasource.replica.read-your-writes-window-ms:5000}") long windowMs) {
+		this.windowMs = windowMs;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		ReadYourWritesContext.open(parseDeadline(request.getHeader(PRIMARY_UNTIL_HEADER)));
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			ReadYourWritesContext.close();
+		}
+	}
+
+	private Long parseDeadline(String header) {
+		if (header == null) {
+			return null;
+		}
+		long deadline;
+		try {
+			deadline = Long.parseLong(header.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		long now = System.currentTimeMillis();
+		return deadline > now ? Math.min(deadline, now + windowMs) : null;
+	}
+}
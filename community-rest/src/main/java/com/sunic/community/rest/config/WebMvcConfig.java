@@ -0,0 +1,33 @@
+package com.sunic.community.rest.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sunic.community.rest.config.sql.SqlBudgetInterceptor;
+import com.sunic.community.rest.config.timing.TimedJacksonHttpMessageConverter;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	private final SqlBudgetInterceptor sqlBudgetInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(sqlBudgetInterceptor).addPathPatterns("/api/**");
+	}
+
+	/**
+	 * Replaces Spring Boot's Jackson converter, which backs off when one is defined.
+	 */
+	@Bean
+	public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+		return new TimedJacksonHttpMessageConverter(objectMapper);
+	}
+}
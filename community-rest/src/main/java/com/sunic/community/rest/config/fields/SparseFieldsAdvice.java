@@ -0,0 +1,53 @@
+package com.sunic.community.rest.config.fields;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * Narrows serialized communities and posts to the properties named by the {@code fields} query parameter,
+ * e.g. {@code ?fields=title,registeredTime}. The id is always kept and unknown names are ignored.
+ */
+@RestControllerAdvice
+public class SparseFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+	@Override
+	protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+		MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+		if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+			return;
+		}
+		Set<String> fields = parse(servletRequest.getServletRequest().getParameterValues("fields"));
+		if (fields.isEmpty()) {
+			return;
+		}
+		fields.add("id");
+		bodyContainer.setFilters(new SimpleFilterProvider()
+			.addFilter(SparseFieldsConfig.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+	}
+
+	private static Set<String> parse(String[] values) {
+		Set<String> fields = new HashSet<>();
+		if (values != null) {
+			for (String value : values) {
+				for (String field : value.split(",")) {
+					if (!field.isBlank()) {
+						fields.add(field.trim());
+					}
+				}
+			}
+		}
+		return fields;
+	}
+}
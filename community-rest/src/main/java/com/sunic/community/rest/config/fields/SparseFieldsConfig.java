@@ -0,0 +1,34 @@
+package com.sunic.community.rest.config.fields;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.sunic.community.spec.community.facade.sdo.CommunityRdo;
+import com.sunic.community.spec.post.facade.sdo.PostRdo;
+
+/**
+ * Puts {@link CommunityRdo} and {@link PostRdo} behind the {@value #FILTER_ID} property filter on the web
+ * ObjectMapper only. The filter is attached by mixin rather than on the Rdos themselves, so other mappers keep
+ * serializing them without a filter provider. By default every property is written.
+ */
+@Configuration
+public class SparseFieldsConfig {
+
+	public static final String FILTER_ID = "fields";
+
+	@Bean
+	public Jackson2ObjectMapperBuilderCustomizer sparseFieldsCustomizer() {
+		return builder -> builder
+			.mixIn(CommunityRdo.class, FieldsFilterMixin.class)
+			.mixIn(PostRdo.class, FieldsFilterMixin.class)
+			.filters(new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+	}
+
+	@JsonFilter(FILTER_ID)
+	private interface FieldsFilterMixin {
+	}
+}
@@ -0,0 +1,40 @@
+package com.sunic.community.rest.config.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Per-endpoint token bucket limits under {@code community.rate-limit}, one bucket per user under {@code endpoints}
+ * and one per client address under {@code clients}. Endpoints without an entry are not limited on that key.
+ */
+@Getter
+@Setter
+@Validated
+@Component
+@ConfigurationProperties(prefix = "community.rate-limit")
+public class RateLimitProperties {
+
+	private boolean enabled = true;
+	private long maxUsers = 100_000;
+	private long idleExpiryMs = 600_000;
+	private Map<String, @Valid Limit> endpoints = new HashMap<>();
+	private Map<String, @Valid Limit> clients = new HashMap<>();
+
+	@Getter
+	@Setter
+	public static class Limit {
+		@Positive
+		private int capacity;
+		@Positive
+		private double refillPerSecond;
+	}
+}
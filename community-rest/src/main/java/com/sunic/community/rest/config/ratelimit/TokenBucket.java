@@ -0,0 +1,48 @@
+package com.sunic.community.rest.config.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding {@code capacity} tokens that refill at {@code refillPerSecond}.
+ * <p>
+ * The whole state is one timestamp, the time at which the bucket would be full again (the generic cell rate
+ * algorithm form of a token bucket), so an acquire is a single compare-and-set without allocation.
+ */
+class TokenBucket {
+
+	private final long nanosPerToken;
+	private final long burstNanos;
+	private final AtomicLong fullAt;
+
+	/**
+	 * @throws IllegalArgumentException unless both the capacity and the refill rate are positive and the time
+	 * to refill the whole bucket fits in a {@code long} of nanoseconds
+	 */
+	TokenBucket(int capacity, double refillPerSecond, long now) {
+		if (capacity <= 0 || !(refillPerSecond > 0)) {
+			throw new IllegalArgumentException(
+				"Token bucket needs a positive capacity and refill rate, got " + capacity + " and " + refillPerSecond);
+		}
+		double nanosPerToken = TimeUnit.SECONDS.toNanos(1) / refillPerSecond;
+		if (nanosPerToken < 1 || nanosPerToken * capacity >= Long.MAX_VALUE) {
+			throw new IllegalArgumentException("Token bucket refill rate out of range: " + refillPerSecond);
+		}
+		this.nanosPerToken = (long)nanosPerToken;
+		this.burstNanos = this.nanosPerToken * capacity;
+		this.fullAt = new AtomicLong(now);
+	}
+
+	boolean tryAcquire(long now) {
+		while (true) {
+			long current = fullAt.get();
+			long next = Math.max(current, now) + nanosPerToken;
+			if (next - now > burstNanos) {
+				return false;
+			}
+			if (fullAt.compareAndSet(current, next)) {
+				return true;
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.sunic.community.rest.config.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sunic.community.spec.common.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Admits write requests per user and endpoint. Resources call it before any logic runs, so a rejected request
+ * costs neither a user-service call nor a transaction.
+ * <p>
+ * The user id comes from the request body and is not verified, so a caller could spread its writes over many
+ * ids. Each request therefore also draws from a bucket of its client address, which the caller cannot choose;
+ * behind a proxy that address is only the real one when {@code server.forward-headers-strategy} is set.
+ * <p>
+ * Buckets live in a size-bounded map that expires idle keys, so memory stays flat however many keys are seen.
+ */
+@Component
+public class UserRateLimiter {
+
+	private final RateLimitProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Cache<String, TokenBucket> buckets;
+
+	public UserRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.buckets = Caffeine.newBuilder()
+			.maximumSize(properties.getMaxUsers())
+			.expireAfterAccess(Duration.ofMillis(properties.getIdleExpiryMs()))
+			.build();
+	}
+
+	/**
+	 * Acquires for the user and the client address of the current request.
+	 *
+	 * @throws TooManyRequestsException when the client or the user has exhausted the endpoint's bucket
+	 */
+	public void acquire(String endpoint, Integer userId) {
+		acquire(endpoint, userId, currentClientAddress());
+	}
+
+	/**
+	 * @throws TooManyRequestsException when the client or the user has exhausted the endpoint's bucket
+	 */
+	public void acquire(String endpoint, Integer userId, String clientAddress) {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		long now = System.nanoTime();
+		acquire(endpoint, "client", clientAddress, properties.getClients().get(endpoint), now);
+		acquire(endpoint, "user", userId, properties.getEndpoints().get(endpoint), now);
+	}
+
+	private void acquire(String endpoint, String keyType, Object key, RateLimitProperties.Limit limit, long now) {
+		if (limit == null || key == null) {
+			return;
+		}
+		TokenBucket bucket = buckets.get(keyType + ":" + endpoint + ":" + key,
+			bucketKey -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+		if (!bucket.tryAcquire(now)) {
+			rejections(endpoint, keyType).increment();
+			throw new TooManyRequestsException("Rate limit exceeded for " + endpoint);
+		}
+	}
+
+	private Counter rejections(String endpoint, String keyType) {
+		return meterRegistry.counter("community.rate-limit.rejected", "endpoint", endpoint, "key", keyType);
+	}
+
+	private static String currentClientAddress() {
+		if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+			return attributes.getRequest().getRemoteAddr();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,68 @@
+package com.sunic.community.rest.config.sql;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.sunic.community.aggregate.config.sql.SqlStatementStats;
+import com.sunic.community.aggregate.config.sql.SqlStatementTracker;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records SQL statement count and DB time per request, tagged by endpoint, and warns when an endpoint goes over
+ * its statement budget, which is how N+1 loads through lazy collections show up.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+
+	private static final String STATS_ATTRIBUTE = SqlBudgetInterceptor.class.getName() + ".stats";
+
+	private final SqlBudgetProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (properties.isEnabled() && handler instanceof HandlerMethod) {
+			request.setAttribute(STATS_ATTRIBUTE, SqlStatementTracker.start());
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+		Exception ex) {
+		if (!(request.getAttribute(STATS_ATTRIBUTE) instanceof SqlStatementStats stats)) {
+			return;
+		}
+		SqlStatementTracker.stop(stats);
+		HandlerMethod method = (HandlerMethod)handler;
+		String endpoint = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+
+		DistributionSummary.builder("community.sql.statements")
+			.tag("endpoint", endpoint)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(stats.getStatementCount());
+		Timer.builder("community.sql.time")
+			.tag("endpoint", endpoint)
+			.register(meterRegistry)
+			.record(stats.getDbTimeNanos(), TimeUnit.NANOSECONDS);
+
+		int budget = properties.maxStatements(endpoint);
+		if (stats.getStatementCount() > budget) {
+			meterRegistry.counter("community.sql.budget.exceeded", "endpoint", endpoint).increment();
+			log.warn("{} {} ran {}, over its budget of {}", request.getMethod(), endpoint, stats, budget);
+		}
+	}
+}
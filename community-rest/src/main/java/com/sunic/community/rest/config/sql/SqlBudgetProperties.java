@@ -0,0 +1,29 @@
+package com.sunic.community.rest.config.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Maximum SQL statements per request under {@code community.sql-budget}, keyed by {@code Resource.method}.
+ * Endpoints without an entry get {@code default-max-statements}.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "community.sql-budget")
+public class SqlBudgetProperties {
+
+	private boolean enabled = true;
+	private int defaultMaxStatements = 20;
+	private Map<String, Integer> endpoints = new HashMap<>();
+
+	public int maxStatements(String endpoint) {
+		return endpoints.getOrDefault(endpoint, defaultMaxStatements);
+	}
+}
@@ -0,0 +1,161 @@
+package com.sunic.community.rest.config.timing;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.sunic.community.aggregate.config.sql.SqlStatementStats;
+import com.sunic.community.aggregate.config.sql.SqlStatementTracker;
+import com.sunic.community.spec.common.timing.RequestTimings;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs a line per API request splitting it into user-service, DB, mapping and serialization time, as reported by
+ * {@code UserProxy}, Hibernate, the mappers and the Jackson converter. The remainder is reported as {@code other}:
+ * security filters, MVC dispatch, flushes, GC pauses and any work not covered above.
+ * <p>
+ * With {@code community.server-timing.header-enabled} the same breakdown, up to the moment the response starts,
+ * is also sent as a {@code Server-Timing} header. The header is set when the body is first written, so nothing is
+ * buffered, and serialization, which runs after that, is only in the log line. It is off by default, as it tells
+ * any caller how the service spends its time.
+ */
+@Slf4j(topic = "community.server-timing")
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+	private final boolean headerEnabled;
+
+	public ServerTimingFilter(@Value("${community.server-timing.header-enabled:false}") boolean headerEnabled) {
+		this.headerEnabled = headerEnabled;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !request.getRequestURI().startsWith("/api/");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		SqlStatementStats sql = SqlStatementTracker.start();
+		RequestTimings timings = RequestTimings.start(SqlStatementTracker::currentDbTimeNanos);
+		long start = System.nanoTime();
+		ServerTimingResponse timedResponse = headerEnabled
+			? new ServerTimingResponse(response, () -> header(timings, sql, System.nanoTime() - start))
+			: null;
+		try {
+			filterChain.doFilter(request, timedResponse != null ? timedResponse : response);
+		} finally {
+			if (timedResponse != null) {
+				timedResponse.addServerTiming();
+			}
+			long total = System.nanoTime() - start;
+			SqlStatementTracker.stop(sql);
+			RequestTimings.stop();
+
+			long user = timings.getNanos(RequestTimings.Phase.USER_SERVICE);
+			long serialization = timings.getNanos(RequestTimings.Phase.SERIALIZATION);
+			long mapping = timings.getNanos(RequestTimings.Phase.MAPPING);
+			long db = sql.getDbTimeNanos();
+			long other = Math.max(0, total - user - db - mapping - serialization);
+			log.info("method={} uri={} status={} total={} user={} db={} statements={} mapping={} serialization={} "
+					+ "other={}",
+				request.getMethod(), request.getRequestURI(), response.getStatus(), millis(total), millis(user),
+				millis(db), sql.getStatementCount(), millis(mapping), millis(serialization), millis(other));
+		}
+	}
+
+	private static String header(RequestTimings timings, SqlStatementStats sql, long total) {
+		long user = timings.getNanos(RequestTimings.Phase.USER_SERVICE);
+		long mapping = timings.getNanos(RequestTimings.Phase.MAPPING);
+		long db = sql.getDbTimeNanos();
+		long other = Math.max(0, total - user - db - mapping);
+		return String.join(", ",
+			entry("user", user, "User service"),
+			entry("db", db, "Database"),
+			entry("mapping", mapping, "Mapping"),
+			entry("other", other, "Other"),
+			entry("total", total, "Total until the response started"));
+	}
+
+	private static String entry(String name, long nanos, String description) {
+		return name + ";dur=" + millis(nanos) + ";desc=\"" + description + "\"";
+	}
+
+	private static String millis(long nanos) {
+		return String.format(Locale.ROOT, "%.2f", nanos / (double)TimeUnit.MILLISECONDS.toNanos(1));
+	}
+
+	/**
+	 * Sets the {@code Server-Timing} header right before anything can commit the response.
+	 */
+	private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+		private final Supplier<String> header;
+		private boolean added;
+
+		private ServerTimingResponse(HttpServletResponse response, Supplier<String> header) {
+			super(response);
+			this.header = header;
+		}
+
+		void addServerTiming() {
+			if (!added && !isCommitted()) {
+				setHeader("Server-Timing", header.get());
+			}
+			added = true;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			addServerTiming();
+			return super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			addServerTiming();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			addServerTiming();
+			super.flushBuffer();
+		}
+
+		@Override
+		public void sendError(int sc, String msg) throws IOException {
+			addServerTiming();
+			super.sendError(sc, msg);
+		}
+
+		@Override
+		public void sendError(int sc) throws IOException {
+			addServerTiming();
+			super.sendError(sc);
+		}
+
+		@Override
+		public void sendRedirect(String location) throws IOException {
+			addServerTiming();
+			super.sendRedirect(location);
+		}
+	}
+}
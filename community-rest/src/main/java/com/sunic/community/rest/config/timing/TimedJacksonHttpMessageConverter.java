@@ -0,0 +1,32 @@
+package com.sunic.community.rest.config.timing;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sunic.community.spec.common.timing.RequestTimings;
+
+/**
+ * Jackson converter that adds the time spent writing each response body to the request's serialization time.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+	public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+		super(objectMapper);
+	}
+
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+		throws IOException, HttpMessageNotWritableException {
+		long start = System.nanoTime();
+		try {
+			super.writeInternal(object, type, outputMessage);
+		} finally {
+			RequestTimings.add(RequestTimings.Phase.SERIALIZATION, System.nanoTime() - start);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.sunic.community.rest.rest.community;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.sunic.community.aggregate.community.logic.CommunityLogic;
 import com.sunic.community.spec.common.ApiResponse;
+import com.sunic.community.spec.common.BatchItemRdo;
 import com.sunic.community.spec.community.facade.CommunityFacade;
 import com.sunic.community.spec.community.facade.sdo.CommunityCdo;
 import com.sunic.community.spec.community.facade.sdo.CommunityRdo;
@@ -35,8 +37,11 @@ public class CommunityResource implements CommunityFacade {
 
 	@Override
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<CommunityRdo>>> getAllCommunities() {
-		List<CommunityRdo> communities = communityLogic.getAllCommunities();
+	public ResponseEntity<ApiResponse<List<CommunityRdo>>> getAllCommunities(
+		@RequestParam(required = false) Set<String> fields) {
+		List<CommunityRdo> communities = fields == null || fields.isEmpty()
+			? communityLogic.getAllCommunities()
+			: communityLogic.getAllCommunities(fields);
 		return ResponseEntity.ok(ApiResponse.success("Communities retrieved successfully", communities));
 	}
 
@@ -47,6 +52,14 @@ public class CommunityResource implements CommunityFacade {
 		return ResponseEntity.ok(ApiResponse.success("Community retrieved successfully", community));
 	}
 
+	@Override
+	@GetMapping("/batch")
+	public ResponseEntity<ApiResponse<List<BatchItemRdo<CommunityRdo>>>> getCommunities(
+		@RequestParam List<Integer> ids) {
+		List<BatchItemRdo<CommunityRdo>> communities = communityLogic.getCommunities(ids);
+		return ResponseEntity.ok(ApiResponse.success("Communities retrieved successfully", communities));
+	}
+
 	@Override
 	@PostMapping
 	public ResponseEntity<ApiResponse<CommunityRdo>> registerCommunity(@Valid @RequestBody CommunityCdo cdo) {
@@ -1,6 +1,7 @@
 package com.sunic.community.rest.rest.post;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,12 +16,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sunic.community.aggregate.post.logic.PostLogic;
+import com.sunic.community.rest.config.ratelimit.UserRateLimiter;
 import com.sunic.community.spec.common.ApiResponse;
+import com.sunic.community.spec.common.BatchItemRdo;
 import com.sunic.community.spec.post.facade.PostFacade;
 import com.sunic.community.spec.post.facade.sdo.CommentCdo;
 import com.sunic.community.spec.post.facade.sdo.CommentRdo;
 import com.sunic.community.spec.post.facade.sdo.PostCdo;
+import com.sunic.community.spec.post.facade.sdo.PostFeedRdo;
 import com.sunic.community.spec.post.facade.sdo.PostRdo;
+import com.sunic.community.spec.post.facade.sdo.PostReactionRdo;
 import com.sunic.community.spec.post.facade.sdo.PostUdo;
 
 import jakarta.validation.Valid;
@@ -32,6 +37,7 @@ import lombok.RequiredArgsConstructor;
 public class PostResource implements PostFacade {
 
 	private final PostLogic postLogic;
+	private final UserRateLimiter userRateLimiter;
 
 	@Override
 	@GetMapping("/{id}")
@@ -40,16 +46,46 @@ public class PostResource implements PostFacade {
 		return ResponseEntity.ok(ApiResponse.success("Post retrieved successfully", post));
 	}
 
+	@Override
+	@GetMapping("/batch")
+	public ResponseEntity<ApiResponse<List<BatchItemRdo<PostRdo>>>> getPosts(@RequestParam List<Integer> ids,
+		@RequestParam(required = false) Set<String> fields) {
+		List<BatchItemRdo<PostRdo>> posts = fields == null || fields.isEmpty()
+			? postLogic.getPosts(ids)
+			: postLogic.getPosts(ids, fields);
+		return ResponseEntity.ok(ApiResponse.success("Posts retrieved successfully", posts));
+	}
+
 	@Override
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<PostRdo>>> getPostsByCommunity(@RequestParam Integer communityId) {
-		List<PostRdo> posts = postLogic.getPostsByCommunity(communityId);
+	public ResponseEntity<ApiResponse<List<PostRdo>>> getPostsByCommunity(@RequestParam Integer communityId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size,
+		@RequestParam(required = false) Set<String> fields) {
+		List<PostRdo> posts;
+		if (size != null) {
+			posts = postLogic.getPostsByCommunity(communityId, cursor, size);
+		} else if (fields == null || fields.isEmpty()) {
+			posts = postLogic.getPostsByCommunity(communityId);
+		} else {
+			posts = postLogic.getPostsByCommunity(communityId, fields);
+		}
 		return ResponseEntity.ok(ApiResponse.success("Posts retrieved successfully", posts));
 	}
 
+	@Override
+	@GetMapping("/feed")
+	public ResponseEntity<ApiResponse<PostFeedRdo>> getFeed(@RequestParam Integer userId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		PostFeedRdo feed = postLogic.getFeed(userId, cursor, size);
+		return ResponseEntity.ok(ApiResponse.success("Feed retrieved successfully", feed));
+	}
+
 	@Override
 	@PostMapping
 	public ResponseEntity<ApiResponse<PostRdo>> createPost(@Valid @RequestBody PostCdo cdo) {
+		userRateLimiter.acquire("create-post", cdo.getRegistrant());
 		PostRdo post = postLogic.createPost(cdo);
 		return ResponseEntity.status(HttpStatus.CREATED)
 			.body(ApiResponse.success("Post created successfully", post));
@@ -76,6 +112,7 @@ public class PostResource implements PostFacade {
 	public ResponseEntity<ApiResponse<CommentRdo>> createComment(
 		@PathVariable Integer id,
 		@Valid @RequestBody CommentCdo cdo) {
+		userRateLimiter.acquire("create-comment", cdo.getRegistrant());
 		CommentCdo updatedCdo = CommentCdo.builder()
 			.content(cdo.getContent())
 			.postId(id)
@@ -83,6 +120,10 @@ public class PostResource implements PostFacade {
 			.build();
 
 		CommentRdo comment = postLogic.createComment(updatedCdo);
+		if (comment.getProvisionalId() != null) {
+			return ResponseEntity.status(HttpStatus.ACCEPTED)
+				.body(ApiResponse.success("Comment accepted", comment));
+		}
 		return ResponseEntity.status(HttpStatus.CREATED)
 			.body(ApiResponse.success("Comment created successfully", comment));
 	}
@@ -101,4 +142,28 @@ public class PostResource implements PostFacade {
 		List<CommentRdo> comments = postLogic.getCommentsByPost(id);
 		return ResponseEntity.ok(ApiResponse.success("Comments retrieved successfully", comments));
 	}
+
+	@Override
+	@PutMapping("/{id}/reactions")
+	public ResponseEntity<ApiResponse<PostReactionRdo>> likePost(@PathVariable Integer id,
+		@RequestParam Integer userId) {
+		PostReactionRdo reaction = postLogic.likePost(id, userId);
+		return ResponseEntity.ok(ApiResponse.success("Post liked successfully", reaction));
+	}
+
+	@Override
+	@DeleteMapping("/{id}/reactions")
+	public ResponseEntity<ApiResponse<PostReactionRdo>> unlikePost(@PathVariable Integer id,
+		@RequestParam Integer userId) {
+		PostReactionRdo reaction = postLogic.unlikePost(id, userId);
+		return ResponseEntity.ok(ApiResponse.success("Post unliked successfully", reaction));
+	}
+
+	@Override
+	@GetMapping("/reactions")
+	public ResponseEntity<ApiResponse<List<PostReactionRdo>>> getReactions(@RequestParam List<Integer> postIds,
+		@RequestParam Integer userId) {
+		List<PostReactionRdo> reactions = postLogic.getReactions(postIds, userId);
+		return ResponseEntity.ok(ApiResponse.success("Reactions retrieved successfully", reactions));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.sunic.community.rest.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GlobalExceptionHandlerTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PagedController())
+		.setControllerAdvice(new GlobalExceptionHandler(meterRegistry))
+		.build();
+
+	@Test
+	void nonNumericParameterIsABadRequest() throws Exception {
+		mockMvc.perform(get("/paged").param("size", "twenty"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.success").value(false))
+			.andExpect(jsonPath("$.message").value("Invalid value for parameter 'size'"));
+		assertThat(errors("MethodArgumentTypeMismatchException")).isEqualTo(1);
+	}
+
+	@Test
+	void missingParameterIsABadRequest() throws Exception {
+		mockMvc.perform(get("/paged"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.success").value(false))
+			.andExpect(jsonPath("$.message").value("Required parameter 'size' is missing"));
+		assertThat(errors("MissingServletRequestParameterException")).isEqualTo(1);
+	}
+
+	private double errors(String exception) {
+		return meterRegistry.counter("community.errors", "exception", exception, "status", "400").count();
+	}
+
+	@RestController
+	static class PagedController {
+
+		@GetMapping("/paged")
+		int page(@RequestParam int size) {
+			return size;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.sunic.community.rest.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.sunic.community.aggregate.config.datasource.ReadYourWritesContext;
+
+class ReadYourWritesFilterTest {
+
+	private static final long WINDOW_MS = 200;
+
+	private final ReadYourWritesFilter filter = new ReadYourWritesFilter(WINDOW_MS);
+
+	@Test
+	void honoursAFuturePrimaryUntilHeader() throws Exception {
+		assertThat(requiresPrimaryWith(String.valueOf(System.currentTimeMillis() + 60_000))).isTrue();
+	}
+
+	@Test
+	void capsAFarFuturePrimaryUntilHeaderAtTheWindow() throws Exception {
+		assertThat(requiresPrimaryWith(String.valueOf(Long.MAX_VALUE), WINDOW_MS * 2)).isFalse();
+	}
+
+	@Test
+	void ignoresAnExpiredPrimaryUntilHeader() throws Exception {
+		assertThat(requiresPrimaryWith(String.valueOf(System.currentTimeMillis() - 1))).isFalse();
+	}
+
+	@Test
+	void ignoresAMissingOrMalformedHeader() throws Exception {
+		assertThat(requiresPrimaryWith(null)).isFalse();
+		assertThat(requiresPrimaryWith("soon")).isFalse();
+	}
+
+	@Test
+	void closesTheContextAfterTheRequest() throws Exception {
+		requiresPrimaryWith(String.valueOf(System.currentTimeMillis() + 60_000));
+
+		assertThat(ReadYourWritesContext.requiresPrimary()).isFalse();
+	}
+
+	private boolean requiresPrimaryWith(String header) throws Exception {
+		return requiresPrimaryWith(header, 0);
+	}
+
+	private boolean requiresPrimaryWith(String header, long readAfterMs) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts/1");
+		if (header != null) {
+			request.addHeader(ReadYourWritesFilter.PRIMARY_UNTIL_HEADER, header);
+		}
+		AtomicBoolean requiresPrimary = new AtomicBoolean();
+		filter.doFilter(request, new MockHttpServletResponse(),
+			(req, res) -> {
+				sleep(readAfterMs);
+				requiresPrimary.set(ReadYourWritesContext.requiresPrimary());
+			});
+		return requiresPrimary.get();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.sunic.community.rest.config.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+	private static final long START = 1_000 * SECOND;
+
+	@Test
+	void admitsAFullBurstThenRejects() {
+		TokenBucket bucket = new TokenBucket(3, 1, START);
+
+		assertThat(IntStream.range(0, 3).allMatch(i -> bucket.tryAcquire(START))).isTrue();
+		assertThat(bucket.tryAcquire(START)).isFalse();
+	}
+
+	@Test
+	void refillsOneTokenPerInterval() {
+		TokenBucket bucket = new TokenBucket(2, 2, START);
+		bucket.tryAcquire(START);
+		bucket.tryAcquire(START);
+
+		assertThat(bucket.tryAcquire(START + SECOND / 2 - 1)).isFalse();
+		assertThat(bucket.tryAcquire(START + SECOND / 2)).isTrue();
+		assertThat(bucket.tryAcquire(START + SECOND / 2)).isFalse();
+	}
+
+	@Test
+	void refillStopsAtCapacity() {
+		TokenBucket bucket = new TokenBucket(2, 1, START);
+		long later = START + 60 * SECOND;
+
+		assertThat(bucket.tryAcquire(later)).isTrue();
+		assertThat(bucket.tryAcquire(later)).isTrue();
+		assertThat(bucket.tryAcquire(later)).isFalse();
+	}
+
+	@Test
+	void rejectedAcquiresDoNotDrainTheBucket() {
+		TokenBucket bucket = new TokenBucket(1, 1, START);
+		bucket.tryAcquire(START);
+		IntStream.range(0, 10).forEach(i -> bucket.tryAcquire(START));
+
+		assertThat(bucket.tryAcquire(START + SECOND)).isTrue();
+	}
+
+	@Test
+	void rejectsANonPositiveCapacityOrRefillRate() {
+		assertThatThrownBy(() -> new TokenBucket(0, 1, START)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new TokenBucket(1, 0, START)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new TokenBucket(1, -1, START)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new TokenBucket(1, Double.NaN, START)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsARefillRateWhoseBurstOverflows() {
+		assertThatThrownBy(() -> new TokenBucket(Integer.MAX_VALUE, 1e-9, START))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new TokenBucket(1, 1e10, START)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
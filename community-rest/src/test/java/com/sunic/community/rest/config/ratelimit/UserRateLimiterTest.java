@@ -0,0 +1,108 @@
+package com.sunic.community.rest.config.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sunic.community.rest.config.GlobalExceptionHandler;
+import com.sunic.community.spec.common.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserRateLimiterTest {
+
+	private static final String ENDPOINT = "create-post";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final UserRateLimiter limiter = new UserRateLimiter(properties(2, 3), meterRegistry);
+
+	@Test
+	void limitsEachUserOnItsOwnBucket() {
+		limiter.acquire(ENDPOINT, 1, "10.0.0.1");
+		limiter.acquire(ENDPOINT, 1, "10.0.0.2");
+
+		assertThatThrownBy(() -> limiter.acquire(ENDPOINT, 1, "10.0.0.3"))
+			.isInstanceOf(TooManyRequestsException.class);
+		limiter.acquire(ENDPOINT, 2, "10.0.0.3");
+		assertThat(rejected("user")).isEqualTo(1);
+	}
+
+	@Test
+	void limitsAClientSpreadingItsWritesOverManyUserIds() {
+		limiter.acquire(ENDPOINT, 1, "10.0.0.1");
+		limiter.acquire(ENDPOINT, 2, "10.0.0.1");
+		limiter.acquire(ENDPOINT, 3, "10.0.0.1");
+
+		assertThatThrownBy(() -> limiter.acquire(ENDPOINT, 4, "10.0.0.1"))
+			.isInstanceOf(TooManyRequestsException.class);
+		limiter.acquire(ENDPOINT, 4, "10.0.0.2");
+		assertThat(rejected("client")).isEqualTo(1);
+	}
+
+	@Test
+	void endpointsWithoutALimitAreNotLimited() {
+		for (int i = 0; i < 10; i++) {
+			limiter.acquire("create-comment", 1, "10.0.0.1");
+		}
+	}
+
+	@Test
+	void exhaustedBucketIsAnsweredWithTooManyRequests() throws Exception {
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new LimitedController(limiter))
+			.setControllerAdvice(new GlobalExceptionHandler(meterRegistry))
+			.build();
+
+		mockMvc.perform(post("/limited").param("userId", "1")).andExpect(status().isOk());
+		mockMvc.perform(post("/limited").param("userId", "1")).andExpect(status().isOk());
+		mockMvc.perform(post("/limited").param("userId", "1"))
+			.andExpect(status().isTooManyRequests())
+			.andExpect(jsonPath("$.success").value(false))
+			.andExpect(jsonPath("$.message").value("Rate limit exceeded for " + ENDPOINT));
+		assertThat(meterRegistry.counter("community.errors",
+			"exception", "TooManyRequestsException", "status", "429").count()).isEqualTo(1);
+	}
+
+	private double rejected(String keyType) {
+		return meterRegistry.counter("community.rate-limit.rejected", "endpoint", ENDPOINT, "key", keyType).count();
+	}
+
+	private static RateLimitProperties properties(int userCapacity, int clientCapacity) {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setEndpoints(Map.of(ENDPOINT, limit(userCapacity)));
+		properties.setClients(Map.of(ENDPOINT, limit(clientCapacity)));
+		return properties;
+	}
+
+	private static RateLimitProperties.Limit limit(int capacity) {
+		RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+		limit.setCapacity(capacity);
+		limit.setRefillPerSecond(0.001);
+		return limit;
+	}
+
+	@RestController
+	static class LimitedController {
+
+		private final UserRateLimiter limiter;
+
+		LimitedController(UserRateLimiter limiter) {
+			this.limiter = limiter;
+		}
+
+		@PostMapping("/limited")
+		void create(@RequestParam Integer userId) {
+			limiter.acquire(ENDPOINT, userId);
+		}
+	}
+}
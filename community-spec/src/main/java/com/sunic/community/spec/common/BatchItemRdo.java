@@ -0,0 +1,28 @@
+package com.sunic.community.spec.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a multi-get response, in request order. Ids that do not resolve are kept with
+ * {@code found = false} and no data.
+ */
+@AllArgsConstructor
+@Builder
+@Getter
+@NoArgsConstructor
+public class BatchItemRdo<T> {
+	private Integer id;
+	private boolean found;
+	private T data;
+
+	public static <T> BatchItemRdo<T> of(Integer id, T data) {
+		return BatchItemRdo.<T>builder()
+			.id(id)
+			.found(data != null)
+			.data(data)
+			.build();
+	}
+}
@@ -0,0 +1,25 @@
+package com.sunic.community.spec.common.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Domain events published through the outbox, keyed by the aggregate they belong to.
+ * Member events belong to their community and comment events to their post.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DomainEventType {
+	COMMUNITY_REGISTERED("COMMUNITY"),
+	COMMUNITY_MODIFIED("COMMUNITY"),
+	COMMUNITY_DELETED("COMMUNITY"),
+	MEMBER_JOINED("COMMUNITY"),
+	MEMBER_LEFT("COMMUNITY"),
+	POST_CREATED("POST"),
+	POST_UPDATED("POST"),
+	POST_DELETED("POST"),
+	COMMENT_CREATED("POST"),
+	COMMENT_DELETED("POST");
+
+	private final String aggregateType;
+}
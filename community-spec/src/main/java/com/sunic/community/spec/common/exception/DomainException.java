@@ -0,0 +1,15 @@
+package com.sunic.community.spec.common.exception;
+
+/**
+ * Base class for expected, client-caused failures. These are mapped to 4xx responses and never need a stack
+ * trace, so none is captured.
+ */
+public abstract class DomainException extends RuntimeException {
+	protected DomainException(String message) {
+		super(message, null, false, false);
+	}
+
+	protected DomainException(String message, Throwable cause) {
+		super(message, cause, false, false);
+	}
+}
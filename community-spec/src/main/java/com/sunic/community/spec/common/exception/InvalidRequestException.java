@@ -0,0 +1,11 @@
+package com.sunic.community.spec.common.exception;
+
+public class InvalidRequestException extends DomainException {
+	public InvalidRequestException(String message) {
+		super(message);
+	}
+
+	public InvalidRequestException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
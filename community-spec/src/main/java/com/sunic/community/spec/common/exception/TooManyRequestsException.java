@@ -0,0 +1,11 @@
+package com.sunic.community.spec.common.exception;
+
+public class TooManyRequestsException extends DomainException {
+	public TooManyRequestsException(String message) {
+		super(message);
+	}
+
+	public TooManyRequestsException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,86 @@
+package com.sunic.community.spec.common.timing;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-request accumulators of time spent in the user service, in entity and Rdo mapping, and in serialization,
+ * fed by the components doing that work. DB time is not kept here; it is read from the supplier given to
+ * {@link #start(LongSupplier)}.
+ * <p>
+ * Mapping is measured in one place, the mapper instances, which are wrapped by {@link #timed(Class, Object)}.
+ */
+public final class RequestTimings {
+
+	public enum Phase {
+		USER_SERVICE, MAPPING, SERIALIZATION
+	}
+
+	private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+	private final long[] nanos = new long[Phase.values().length];
+	private final LongSupplier dbTimeNanos;
+	private int mappingDepth;
+
+	private RequestTimings(LongSupplier dbTimeNanos) {
+		this.dbTimeNanos = dbTimeNanos;
+	}
+
+	/**
+	 * @param dbTimeNanos running DB time of the request, so lazy loads a mapping triggers are not counted twice
+	 */
+	public static RequestTimings start(LongSupplier dbTimeNanos) {
+		RequestTimings timings = new RequestTimings(dbTimeNanos);
+		CURRENT.set(timings);
+		return timings;
+	}
+
+	public static void stop() {
+		CURRENT.remove();
+	}
+
+	public static void add(Phase phase, long elapsedNanos) {
+		RequestTimings timings = CURRENT.get();
+		if (timings != null) {
+			timings.nanos[phase.ordinal()] += elapsedNanos;
+		}
+	}
+
+	/**
+	 * Wraps a mapper so the time of every call made on it, less the DB time of lazy loads it triggers, is added
+	 * to {@link Phase#MAPPING}. Calls nested in another timed mapping are counted once, by the outer call.
+	 */
+	public static <M> M timed(Class<M> mapperType, M mapper) {
+		return mapperType.cast(Proxy.newProxyInstance(mapperType.getClassLoader(), new Class<?>[] {mapperType},
+			(proxy, method, args) -> {
+				RequestTimings timings = CURRENT.get();
+				if (timings == null || timings.mappingDepth > 0) {
+					return invoke(mapper, method, args);
+				}
+				long dbBefore = timings.dbTimeNanos.getAsLong();
+				long start = System.nanoTime();
+				timings.mappingDepth++;
+				try {
+					return invoke(mapper, method, args);
+				} finally {
+					timings.mappingDepth--;
+					long lazyLoading = timings.dbTimeNanos.getAsLong() - dbBefore;
+					timings.nanos[Phase.MAPPING.ordinal()] += Math.max(0, System.nanoTime() - start - lazyLoading);
+				}
+			}));
+	}
+
+	public long getNanos(Phase phase) {
+		return nanos[phase.ordinal()];
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
@@ -2,8 +2,6 @@ package com.sunic.community.spec.community.entity;
 
 import java.util.List;
 
-import org.springframework.beans.BeanUtils;
-
 import com.sunic.community.spec.community.facade.sdo.CommunityCdo;
 import com.sunic.community.spec.community.facade.sdo.CommunityRdo;
 import com.sunic.community.spec.community.facade.sdo.CommunityUdo;
@@ -12,10 +10,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Setter
 @Builder(toBuilder = true)
+@Jacksonized
 @ToString
 public class Community {
 	private Integer id;
@@ -57,7 +57,7 @@ public class Community {
 
 	public void modify(CommunityUdo sdo) {
 		this.modifiedTime = System.currentTimeMillis();
-		BeanUtils.copyProperties(sdo, this);
+		CommunityMapper.INSTANCE.modify(sdo, this);
 	}
 
 	public void addMember() {
@@ -69,22 +69,6 @@ public class Community {
 	}
 
 	public CommunityRdo toRdo() {
-		return CommunityRdo.builder()
-			.id(id)
-			.type(type)
-			.thumbnail(thumbnail)
-			.name(name)
-			.description(description)
-			.managerId(managerId)
-			.managerName(managerName)
-			.managerEmail(managerEmail)
-			.memberCount(memberCount)
-			.registeredTime(registeredTime)
-			.registrant(registrant)
-			.modifiedTime(modifiedTime)
-			.modifier(modifier)
-			.allowSelfJoin(allowSelfJoin)
-			.secretNumber(secretNumber)
-			.build();
+		return CommunityMapper.INSTANCE.toRdo(this);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.sunic.community.spec.community.entity;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+import com.sunic.community.spec.common.timing.RequestTimings;
+import com.sunic.community.spec.community.facade.sdo.CommunityRdo;
+import com.sunic.community.spec.community.facade.sdo.CommunityUdo;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface CommunityMapper {
+	CommunityMapper INSTANCE = RequestTimings.timed(CommunityMapper.class, Mappers.getMapper(CommunityMapper.class));
+
+	CommunityRdo toRdo(Community community);
+
+	void modify(CommunityUdo sdo, @MappingTarget Community community);
+}
@@ -6,10 +6,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Setter
 @Builder
+@Jacksonized
 @ToString
 public class Member {
 	private Integer id;
@@ -1,6 +1,8 @@
 package com.sunic.community.spec.community.exception;
 
-public class CommunityNotFoundException extends RuntimeException {
+import com.sunic.community.spec.common.exception.DomainException;
+
+public class CommunityNotFoundException extends DomainException {
 	public CommunityNotFoundException(String message) {
 		super(message);
 	}
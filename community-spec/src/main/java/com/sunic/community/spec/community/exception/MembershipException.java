@@ -1,6 +1,8 @@
 package com.sunic.community.spec.community.exception;
 
-public class MembershipException extends RuntimeException {
+import com.sunic.community.spec.common.exception.DomainException;
+
+public class MembershipException extends DomainException {
 	public MembershipException(String message) {
 		super(message);
 	}
@@ -1,10 +1,12 @@
 package com.sunic.community.spec.community.facade;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.http.ResponseEntity;
 
 import com.sunic.community.spec.common.ApiResponse;
+import com.sunic.community.spec.common.BatchItemRdo;
 import com.sunic.community.spec.community.facade.sdo.CommunityCdo;
 import com.sunic.community.spec.community.facade.sdo.CommunityRdo;
 import com.sunic.community.spec.community.facade.sdo.CommunityUdo;
@@ -14,10 +16,12 @@ import jakarta.validation.Valid;
 
 public interface CommunityFacade {
 
-	ResponseEntity<ApiResponse<List<CommunityRdo>>> getAllCommunities();
+	ResponseEntity<ApiResponse<List<CommunityRdo>>> getAllCommunities(Set<String> fields);
 
 	ResponseEntity<ApiResponse<CommunityRdo>> getCommunity(Integer id);
 
+	ResponseEntity<ApiResponse<List<BatchItemRdo<CommunityRdo>>>> getCommunities(List<Integer> ids);
+
 	ResponseEntity<ApiResponse<CommunityRdo>> registerCommunity(@Valid CommunityCdo cdo);
 
 	ResponseEntity<ApiResponse<CommunityRdo>> modifyCommunity(Integer id, @Valid CommunityUdo udo);
@@ -7,10 +7,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Setter
 @Builder(toBuilder = true)
+@Jacksonized
 @ToString
 public class Comment {
 	private Integer id;
@@ -20,6 +22,7 @@ public class Comment {
 	private Integer registrant;
 	private Long modifiedTime;
 	private Integer modifier;
+	private String provisionalId;
 
 	public static Comment create(CommentCdo sdo) {
 		long currentTime = System.currentTimeMillis();
@@ -41,14 +44,6 @@ public class Comment {
 	}
 
 	public CommentRdo toRdo() {
-		return CommentRdo.builder()
-			.id(id)
-			.content(content)
-			.postId(postId)
-			.registeredTime(registeredTime)
-			.registrant(registrant)
-			.modifiedTime(modifiedTime)
-			.modifier(modifier)
-			.build();
+		return PostMapper.INSTANCE.toRdo(this);
 	}
 }
\ No newline at end of file
@@ -1,9 +1,6 @@
 package com.sunic.community.spec.post.entity;
 
 import java.util.List;
-import java.util.stream.Collectors;
-
-import org.springframework.beans.BeanUtils;
 
 import com.sunic.community.spec.post.facade.sdo.PostCdo;
 import com.sunic.community.spec.post.facade.sdo.PostRdo;
@@ -13,10 +10,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Setter
 @Builder(toBuilder = true)
+@Jacksonized
 @ToString
 public class Post {
 	private Integer id;
@@ -29,6 +28,7 @@ public class Post {
 	private Integer registrant;
 	private Long modifiedTime;
 	private Integer modifier;
+	private Long viewCount;
 
 	public static Post create(PostCdo sdo) {
 		long currentTime = System.currentTimeMillis();
@@ -45,22 +45,11 @@ public class Post {
 	}
 
 	public void update(PostUdo sdo) {
-		BeanUtils.copyProperties(sdo, this);
+		PostMapper.INSTANCE.update(sdo, this);
 		this.modifiedTime = System.currentTimeMillis();
 	}
 
 	public PostRdo toRdo() {
-		return PostRdo.builder()
-			.id(id)
-			.title(title)
-			.content(content)
-			.postType(postType)
-			.communityId(communityId)
-			.comments(comments.stream().map(Comment::toRdo).collect(Collectors.toList()))
-			.registeredTime(registeredTime)
-			.registrant(registrant)
-			.modifiedTime(modifiedTime)
-			.modifier(modifier)
-			.build();
+		return PostMapper.INSTANCE.toRdo(this);
 	}
 }
\ No newline at end of file
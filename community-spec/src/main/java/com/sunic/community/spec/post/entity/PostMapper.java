@@ -0,0 +1,22 @@
+package com.sunic.community.spec.post.entity;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+import com.sunic.community.spec.common.timing.RequestTimings;
+import com.sunic.community.spec.post.facade.sdo.CommentRdo;
+import com.sunic.community.spec.post.facade.sdo.PostRdo;
+import com.sunic.community.spec.post.facade.sdo.PostUdo;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface PostMapper {
+	PostMapper INSTANCE = RequestTimings.timed(PostMapper.class, Mappers.getMapper(PostMapper.class));
+
+	PostRdo toRdo(Post post);
+
+	CommentRdo toRdo(Comment comment);
+
+	void update(PostUdo sdo, @MappingTarget Post post);
+}
@@ -1,6 +1,8 @@
 package com.sunic.community.spec.post.exception;
 
-public class CommentNotFoundException extends RuntimeException {
+import com.sunic.community.spec.common.exception.DomainException;
+
+public class CommentNotFoundException extends DomainException {
 	public CommentNotFoundException(String message) {
 		super(message);
 	}
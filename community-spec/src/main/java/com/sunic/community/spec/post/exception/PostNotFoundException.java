@@ -1,6 +1,8 @@
 package com.sunic.community.spec.post.exception;
 
-public class PostNotFoundException extends RuntimeException {
+import com.sunic.community.spec.common.exception.DomainException;
+
+public class PostNotFoundException extends DomainException {
 	public PostNotFoundException(String message) {
 		super(message);
 	}
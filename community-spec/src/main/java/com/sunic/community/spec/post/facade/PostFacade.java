@@ -1,14 +1,18 @@
 package com.sunic.community.spec.post.facade;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.http.ResponseEntity;
 
 import com.sunic.community.spec.common.ApiResponse;
+import com.sunic.community.spec.common.BatchItemRdo;
 import com.sunic.community.spec.post.facade.sdo.CommentCdo;
 import com.sunic.community.spec.post.facade.sdo.CommentRdo;
 import com.sunic.community.spec.post.facade.sdo.PostCdo;
+import com.sunic.community.spec.post.facade.sdo.PostFeedRdo;
 import com.sunic.community.spec.post.facade.sdo.PostRdo;
+import com.sunic.community.spec.post.facade.sdo.PostReactionRdo;
 import com.sunic.community.spec.post.facade.sdo.PostUdo;
 
 import jakarta.validation.Valid;
@@ -17,7 +21,12 @@ public interface PostFacade {
 
 	ResponseEntity<ApiResponse<PostRdo>> getPost(Integer id);
 
-	ResponseEntity<ApiResponse<List<PostRdo>>> getPostsByCommunity(Integer communityId);
+	ResponseEntity<ApiResponse<List<BatchItemRdo<PostRdo>>>> getPosts(List<Integer> ids, Set<String> fields);
+
+	ResponseEntity<ApiResponse<List<PostRdo>>> getPostsByCommunity(Integer communityId, String cursor, Integer size,
+		Set<String> fields);
+
+	ResponseEntity<ApiResponse<PostFeedRdo>> getFeed(Integer userId, String cursor, int size);
 
 	ResponseEntity<ApiResponse<PostRdo>> createPost(@Valid PostCdo cdo);
 
@@ -30,4 +39,10 @@ public interface PostFacade {
 	ResponseEntity<ApiResponse<Void>> deleteComment(Integer commentId, Integer userId);
 
 	ResponseEntity<ApiResponse<List<CommentRdo>>> getCommentsByPost(Integer id);
+
+	ResponseEntity<ApiResponse<PostReactionRdo>> likePost(Integer id, Integer userId);
+
+	ResponseEntity<ApiResponse<PostReactionRdo>> unlikePost(Integer id, Integer userId);
+
+	ResponseEntity<ApiResponse<List<PostReactionRdo>>> getReactions(List<Integer> postIds, Integer userId);
 }
\ No newline at end of file
@@ -15,4 +15,5 @@ public class CommentRdo {
 	private final Integer registrant;
 	private final Long modifiedTime;
 	private final Integer modifier;
+	private final String provisionalId;
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.sunic.community.spec.post.facade.sdo;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class PostFeedRdo {
+	private final List<PostRdo> posts;
+	private final String nextCursor;
+}
@@ -22,4 +22,5 @@ public class PostRdo {
 	private final Long modifiedTime;
 	private final Integer modifier;
 	private final List<CommentRdo> comments;
+	private final Long viewCount;
 }
\ No newline at end of file
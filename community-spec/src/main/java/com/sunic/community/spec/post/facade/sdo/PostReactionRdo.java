@@ -0,0 +1,14 @@
+package com.sunic.community.spec.post.facade.sdo;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class PostReactionRdo {
+	private final Integer postId;
+	private final Long likeCount;
+	private final boolean liked;
+}